@@ -0,0 +1,59 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@AllArgsConstructor
+public class EdcClientConfig {
+
+    private final EdcClientProperties properties;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider edcConnectionProvider() {
+        return ConnectionProvider
+            .builder("edc")
+            .maxConnections(properties.maxConnections())
+            .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+            .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+            .maxIdleTime(properties.maxIdleTime())
+            .maxLifeTime(properties.maxLifeTime())
+            .evictInBackground(properties.maxIdleTime())
+            .build();
+    }
+
+    @Bean
+    public ReactorClientHttpConnector edcClientHttpConnector(ConnectionProvider edcConnectionProvider) {
+        HttpClient httpClient = HttpClient
+            .create(edcConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+            .compress(true);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Access token of the EDC token endpoint. A token counts as expired clock-skew before the lifetime the
+ * endpoint reports and is refreshed refresh-before ahead of that, at the latest halfway through its lifetime.
+ */
+@ConfigurationProperties("app.edc-token")
+public record EdcTokenProperties(
+    Duration clockSkew,
+    Duration refreshBefore,
+    Duration timeout,
+    int retries,
+    Duration minBackoff,
+    Duration maxBackoff,
+    double jitter
+) {}
@@ -28,6 +28,8 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.TimeoutException;
+
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
@@ -50,4 +52,19 @@ public class GlobalExceptionHandler {
         problemDetail.setProperty(TIMESTAMP, System.currentTimeMillis());
         return problemDetail;
     }
+
+    /**
+     * Handles calls to external services, e.g. the EDC connector, that did not answer in time.
+     *
+     * @param e The timeout that occurred.
+     * @return A ProblemDetail object with status 504.
+     */
+    @ExceptionHandler(TimeoutException.class)
+    ProblemDetail handleTimeoutException(TimeoutException e) {
+        log.warn("Timeout {}", e.getMessage());
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.GATEWAY_TIMEOUT, e.getMessage());
+        problemDetail.setTitle("Upstream service did not answer in time");
+        problemDetail.setProperty(TIMESTAMP, System.currentTimeMillis());
+        return problemDetail;
+    }
 }
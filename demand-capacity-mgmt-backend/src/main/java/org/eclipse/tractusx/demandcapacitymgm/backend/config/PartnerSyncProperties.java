@@ -0,0 +1,64 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbound publishing of the week-based changes to the partners. Each run reads up to batchSize changes per
+ * partner and feed, and sends them as gzip compressed payloads of at most maxPayloadBytes uncompressed bytes.
+ * Changes whose partner is ownBpn were received from the partner and are not sent back.
+ * <p>
+ * transport is edc, http (stand-in posting to httpUrl), file (stand-in writing to directory) or none, which
+ * disables publishing.
+ */
+@ConfigurationProperties("app.partner-sync")
+public record PartnerSyncProperties(
+    String transport,
+    String ownBpn,
+    int batchSize,
+    int maxPayloadBytes,
+    String directory,
+    String httpUrl,
+    String edcAssetId,
+    Duration timeout
+) {
+    public static final String NO_TRANSPORT = "none";
+
+    public PartnerSyncProperties {
+        if (isEnabled(transport) && (ownBpn == null || ownBpn.isBlank())) {
+            throw new IllegalArgumentException(
+                "app.partner-sync.own-bpn must be set when the " + transport + " transport is enabled"
+            );
+        }
+    }
+
+    public boolean enabled() {
+        return isEnabled(transport);
+    }
+
+    private static boolean isEnabled(String transport) {
+        return transport != null && !transport.isBlank() && !NO_TRANSPORT.equals(transport);
+    }
+}
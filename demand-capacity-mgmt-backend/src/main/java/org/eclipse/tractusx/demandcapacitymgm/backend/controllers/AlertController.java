@@ -22,8 +22,10 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 
 import eclipse.tractusx.demandcapacitymgm.specification.api.AlertsApi;
+import eclipse.tractusx.demandcapacitymgm.specification.model.AlertPageResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.AlertRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.AlertResponse;
+import eclipse.tractusx.demandcapacitymgm.specification.model.TriggeredAlertPageResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.TriggeredAlertRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.TriggeredAlertResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -52,6 +54,13 @@ public class AlertController implements AlertsApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    @Override
+    public ResponseEntity<Void> deleteAlert(String alertId) throws Exception {
+        String userID = UserUtil.getUserID(request);
+        alertService.deleteAlert(userID, alertId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
     @Override
     public ResponseEntity<TriggeredAlertResponse> configureTriggeredAlert(TriggeredAlertRequest triggeredAlertRequest)
         throws Exception {
@@ -65,6 +74,19 @@ public class AlertController implements AlertsApi {
         return ResponseEntity.status(HttpStatus.OK).body(alertService.getAlerts(userID));
     }
 
+    @Override
+    public ResponseEntity<AlertPageResponse> getAlertsPage(String cursor, Integer size) throws Exception {
+        String userID = UserUtil.getUserID(request);
+        return ResponseEntity.status(HttpStatus.OK).body(alertService.getAlertsPage(userID, cursor, size));
+    }
+
+    @Override
+    public ResponseEntity<TriggeredAlertPageResponse> getTriggeredAlertsPage(String cursor, Integer size)
+        throws Exception {
+        String userID = UserUtil.getUserID(request);
+        return ResponseEntity.status(HttpStatus.OK).body(alertService.getTriggeredAlertsPage(userID, cursor, size));
+    }
+
     @Override
     public ResponseEntity<List<TriggeredAlertResponse>> getTriggeredAlerts() throws Exception {
         String userID = UserUtil.getUserID(request);
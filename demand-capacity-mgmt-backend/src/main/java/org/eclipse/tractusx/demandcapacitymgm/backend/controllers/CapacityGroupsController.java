@@ -25,14 +25,20 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 import eclipse.tractusx.demandcapacitymgm.specification.api.CapacityGroupApi;
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFilter;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFormat;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.CapacityGroupService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ExportService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UserUtil;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -40,7 +46,9 @@ import java.util.List;
 public class CapacityGroupsController implements CapacityGroupApi {
 
     private CapacityGroupService service;
+    private ExportService exportService;
     private HttpServletRequest request;
+    private HttpServletResponse response;
 
     @Override
     public ResponseEntity<List<CapacityGroupDefaultViewResponse>> getCapacityGroups() {
@@ -50,6 +58,29 @@ public class CapacityGroupsController implements CapacityGroupApi {
         return ResponseEntity.status(HttpStatus.OK).body(capacityGroupDefaultViewResponses);
     }
 
+    @Override
+    public ResponseEntity<Resource> exportCapacityGroups(
+        String format,
+        String company,
+        String from,
+        String to,
+        String linkStatus
+    ) throws Exception {
+        ExportFormat exportFormat = exportService.parseFormat(format);
+        ExportFilter filter = exportService.parseFilter(company, from, to, linkStatus);
+        // The rows are written straight to the response, a null entity tells Spring the response is handled
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        exportService.exportCapacityGroups(
+            filter,
+            exportFormat,
+            UserUtil.getUserID(request),
+            UserUtil.getUserRole(request),
+            response.getOutputStream()
+        );
+        return null;
+    }
+
     @Override
     public ResponseEntity<SingleCapacityGroup> getCapacityGroupById(String capacityGroupId) {
         SingleCapacityGroup capacityGroupResponse = service.getCapacityGroupById(capacityGroupId);
@@ -25,13 +25,22 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 import eclipse.tractusx.demandcapacitymgm.specification.api.DemandApi;
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFilter;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFormat;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.DemandImportService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.DemandService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ExportService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UserUtil;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -39,8 +48,11 @@ import java.util.List;
 public class DemandController implements DemandApi {
 
     private final DemandService demandService;
+    private final DemandImportService demandImportService;
+    private final ExportService exportService;
 
     private HttpServletRequest request;
+    private HttpServletResponse response;
 
     @Override
     public ResponseEntity<Void> deleteDemandsById(String demandId) {
@@ -62,6 +74,31 @@ public class DemandController implements DemandApi {
         return null;
     }
 
+    @Override
+    public ResponseEntity<Resource> exportDemands(
+        String format,
+        String company,
+        String from,
+        String to,
+        String linkStatus
+    ) throws Exception {
+        ExportFormat exportFormat = exportService.parseFormat(format);
+        ExportFilter filter = exportService.parseFilter(company, from, to, linkStatus);
+        // The rows are written straight to the response, a null entity tells Spring the response is handled
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        exportService.exportDemands(filter, exportFormat, response.getOutputStream());
+        return null;
+    }
+
+    @Override
+    public ResponseEntity<DemandImportResponse> importDemands(InputStreamResource body) throws Exception {
+        String userID = UserUtil.getUserID(request);
+        try (InputStream inputStream = body.getInputStream()) {
+            return ResponseEntity.status(HttpStatus.OK).body(demandImportService.importDemands(inputStream, userID));
+        }
+    }
+
     @Override
     public ResponseEntity<MaterialDemandResponse> getDemandsById(String demandId) {
         MaterialDemandResponse responseDto = demandService.getDemandById(demandId);
@@ -74,6 +111,28 @@ public class DemandController implements DemandApi {
         return ResponseEntity.status(HttpStatus.OK).body(demandResponseDtos);
     }
 
+    @Override
+    public ResponseEntity<MaterialDemandPageResponse> getDemandsPage(
+        String cursor,
+        Integer size,
+        String customer,
+        String supplier,
+        String linkStatus,
+        String materialNumber
+    ) {
+        String userID = UserUtil.getUserID(request);
+        MaterialDemandPageResponse response = demandService.getDemandsPage(
+            cursor,
+            size,
+            customer,
+            supplier,
+            linkStatus,
+            materialNumber,
+            userID
+        );
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Override
     public ResponseEntity<DemandSeriesCompositeResponse> getLinkedDemandSeriesByCompositeKeyID(
         DemandSeriesCompositeRequest demandSeriesCompositeRequest
@@ -22,15 +22,21 @@
 
 package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 
-import eclipse.tractusx.demandcapacitymgm.specification.api.EdcApi;
+import eclipse.tractusx.demandcapacitymgm.specification.api.async.EdcApi;
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
 import lombok.AllArgsConstructor;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.EDCService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Serves the EDC endpoints asynchronously. The request thread is released while the connector
+ * answers and the response is written once the returned future completes.
+ */
 @RestController
 @AllArgsConstructor
 public class EDCController implements EdcApi {
@@ -38,67 +44,76 @@ public class EDCController implements EdcApi {
     private final EDCService edcService;
 
     @Override
-    public ResponseEntity<List<Asset>> createAssetRequest(QuerySpec querySpec) throws Exception {
-        return ResponseEntity.ok(edcService.createAssetRequest(querySpec));
+    public CompletableFuture<ResponseEntity<List<Asset>>> createAssetRequest(QuerySpec querySpec) throws Exception {
+        return edcService.createAssetRequest(querySpec).collectList().map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<IdResponse> createContract(ContractDefinitionInput contractDefinitionInput) throws Exception {
-        return ResponseEntity.ok(edcService.createContractDef(contractDefinitionInput).block());
+    public CompletableFuture<ResponseEntity<IdResponse>> createContract(ContractDefinitionInput contractDefinitionInput)
+        throws Exception {
+        return edcService.createContractDef(contractDefinitionInput).map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<List<ContractDefinitionOutput>> createContractRequest(QuerySpec querySpec) throws Exception {
-        return ResponseEntity.ok(edcService.createContractDefRequest(querySpec));
+    public CompletableFuture<ResponseEntity<List<ContractDefinitionOutput>>> createContractRequest(QuerySpec querySpec)
+        throws Exception {
+        return edcService.createContractDefRequest(querySpec).collectList().map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<IdResponse> createPolicy(PolicyDefinitionInput policyDefinitionInput) throws Exception {
-        return ResponseEntity.ok(edcService.createPolicy(policyDefinitionInput).block());
+    public CompletableFuture<ResponseEntity<IdResponse>> createPolicy(PolicyDefinitionInput policyDefinitionInput)
+        throws Exception {
+        return edcService.createPolicy(policyDefinitionInput).map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<List<PolicyDefinitionOutput>> createPolicyRequest(QuerySpec querySpec) throws Exception {
-        return ResponseEntity.ok(edcService.createPolicyRequest(querySpec));
+    public CompletableFuture<ResponseEntity<List<PolicyDefinitionOutput>>> createPolicyRequest(QuerySpec querySpec)
+        throws Exception {
+        return edcService.createPolicyRequest(querySpec).collectList().map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<Void> deleteAssetById(String assetId) throws Exception {
-        return ResponseEntity.ok(edcService.deleteAsset(assetId));
+    public CompletableFuture<ResponseEntity<Void>> deleteAssetById(String assetId) throws Exception {
+        return edcService.deleteAsset(assetId).then(ok()).toFuture();
     }
 
     @Override
-    public ResponseEntity<Void> deleteContractById(String contractId) throws Exception {
-        return ResponseEntity.ok(edcService.deleteContractDef(contractId));
+    public CompletableFuture<ResponseEntity<Void>> deleteContractById(String contractId) throws Exception {
+        return edcService.deleteContractDef(contractId).then(ok()).toFuture();
     }
 
     @Override
-    public ResponseEntity<Void> deletePolicyById(String policyId) throws Exception {
-        return ResponseEntity.ok(edcService.deletePolicy(policyId));
+    public CompletableFuture<ResponseEntity<Void>> deletePolicyById(String policyId) throws Exception {
+        return edcService.deletePolicy(policyId).then(ok()).toFuture();
     }
 
     @Override
-    public ResponseEntity<AccessTokenResponse> getAccessToken() throws Exception {
-        return ResponseEntity.ok(edcService.getAccessToken().block());
+    public CompletableFuture<ResponseEntity<AccessTokenResponse>> getAccessToken() throws Exception {
+        return edcService.getAccessToken().map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<Asset> getAssetById(String assetId) throws Exception {
-        return ResponseEntity.ok(edcService.getAsset(assetId));
+    public CompletableFuture<ResponseEntity<Asset>> getAssetById(String assetId) throws Exception {
+        return edcService.getAsset(assetId).map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<ContractDefinitionOutput> getContractById(String contractId) throws Exception {
-        return ResponseEntity.ok(edcService.getContractDef(contractId));
+    public CompletableFuture<ResponseEntity<ContractDefinitionOutput>> getContractById(String contractId)
+        throws Exception {
+        return edcService.getContractDef(contractId).map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<PolicyDefinitionOutput> getPolicyById(String policyId) throws Exception {
-        return ResponseEntity.ok(edcService.getPolicy(policyId));
+    public CompletableFuture<ResponseEntity<PolicyDefinitionOutput>> getPolicyById(String policyId) throws Exception {
+        return edcService.getPolicy(policyId).map(ResponseEntity::ok).toFuture();
     }
 
     @Override
-    public ResponseEntity<IdResponse> registerAsset(AssetEntryNewDto assetInput) throws Exception {
-        return ResponseEntity.ok(edcService.createAsset(assetInput).block());
+    public CompletableFuture<ResponseEntity<IdResponse>> registerAsset(AssetEntryNewDto assetInput) throws Exception {
+        return edcService.createAsset(assetInput).map(ResponseEntity::ok).toFuture();
+    }
+
+    private static Mono<ResponseEntity<Void>> ok() {
+        return Mono.fromSupplier(() -> ResponseEntity.ok().build());
     }
 }
@@ -24,6 +24,7 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 
 import eclipse.tractusx.demandcapacitymgm.specification.api.LoggingHistoryApi;
 import eclipse.tractusx.demandcapacitymgm.specification.model.ArchivedLoggingHistoryResponse;
+import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryPageResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -80,16 +81,28 @@ public class LoggingHistoryController implements LoggingHistoryApi {
     }
 
     @Override
-    public ResponseEntity<List<LoggingHistoryResponse>> filterLogs(
+    public ResponseEntity<LoggingHistoryPageResponse> filterLogs(
         String startTime,
         String endTime,
         String event,
         String materialDemandId,
-        String capacityGroupId
+        String capacityGroupId,
+        String cursor,
+        Integer size
     ) throws Exception {
-		return ResponseEntity.status(HttpStatus.OK).body(
-			loggingHistoryService.filterLog(capacityGroupId, materialDemandId, event, startTime, endTime)
-		);
+        return ResponseEntity
+            .status(HttpStatus.OK)
+            .body(
+                loggingHistoryService.filterLog(
+                    capacityGroupId,
+                    materialDemandId,
+                    event,
+                    startTime,
+                    endTime,
+                    cursor,
+                    size
+                )
+            );
     }
 
     @Override
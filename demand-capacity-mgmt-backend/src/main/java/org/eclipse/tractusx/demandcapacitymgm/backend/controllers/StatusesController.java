@@ -23,10 +23,12 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 
 import eclipse.tractusx.demandcapacitymgm.specification.api.StatusesApi;
+import eclipse.tractusx.demandcapacitymgm.specification.model.StatusRecalculationResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.StatusRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.StatusesResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.StatusRecalculationService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.StatusesService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UserUtil;
 import org.springframework.http.HttpStatus;
@@ -39,6 +41,8 @@ public class StatusesController implements StatusesApi {
 
     private final StatusesService statusesService;
 
+    private final StatusRecalculationService statusRecalculationService;
+
     private HttpServletRequest request;
 
     @Override
@@ -60,4 +64,13 @@ public class StatusesController implements StatusesApi {
         statusesService.updateStatus(statusRequest, userID);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    @Override
+    public ResponseEntity<StatusRecalculationResponse> getStatusRecalculation() {
+        String userID = UserUtil.getUserID(request);
+        StatusRecalculationResponse response = new StatusRecalculationResponse();
+        response.setPending(statusRecalculationService.isPending(userID));
+        response.setBacklog(statusRecalculationService.getPendingCount());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
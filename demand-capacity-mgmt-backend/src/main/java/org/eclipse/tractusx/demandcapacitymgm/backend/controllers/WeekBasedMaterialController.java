@@ -23,6 +23,7 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.controllers;
 
 import eclipse.tractusx.demandcapacitymgm.specification.api.WeekBasedMaterialDemandApi;
+import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandChangePage;
 import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandRequestDto;
 import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandResponseDto;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,6 +50,16 @@ public class WeekBasedMaterialController implements WeekBasedMaterialDemandApi {
         return ResponseEntity.status(HttpStatus.OK).body(capacityGroupDefaultViewResponseList);
     }
 
+    @Override
+    public ResponseEntity<WeekBasedMaterialDemandChangePage> getWeekBasedMaterialDemandChanges(
+        Long since,
+        Integer size
+    ) {
+        return ResponseEntity
+            .status(HttpStatus.OK)
+            .body(weekBasedMaterialService.getWeekBasedMaterialDemandChanges(since, size));
+    }
+
     @Override
     public ResponseEntity<Void> postWeekBasedMaterialDemand(
         List<WeekBasedMaterialDemandRequestDto> weekBasedMaterialDemandRequestDto
@@ -27,11 +27,15 @@ import eclipse.tractusx.demandcapacitymgm.specification.model.YearReportRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.YearReportResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.WeekDemandAggregateService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.impl.BottleneckManagerImpl;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UserUtil;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Objects;
+
 @RestController
 @AllArgsConstructor
 public class YearReportController implements YearReportApi {
@@ -40,6 +44,8 @@ public class YearReportController implements YearReportApi {
 
     private BottleneckManagerImpl bottleneckManager;
 
+    private WeekDemandAggregateService weekDemandAggregateService;
+
     @Override
     public ResponseEntity<YearReportResponse> generateYearReport(YearReportRequest yearReportRequest) throws Exception {
 		return ResponseEntity.status(200).body(
@@ -53,4 +59,12 @@ public class YearReportController implements YearReportApi {
 			)
 		);
     }
+
+    @Override
+    public ResponseEntity<Void> rebuildWeekDemandAggregates() throws Exception {
+        if (Objects.equals(UserUtil.getUserRole(request), Role.ADMIN)) {
+            weekDemandAggregateService.rebuild();
+            return ResponseEntity.status(200).build();
+        } else return ResponseEntity.status(401).build();
+    }
 }
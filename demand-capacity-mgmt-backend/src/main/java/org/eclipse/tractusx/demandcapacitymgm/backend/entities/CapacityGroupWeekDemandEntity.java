@@ -0,0 +1,58 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "capacity_group_week_demand")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityGroupWeekDemandEntity {
+
+    @Id
+    @GeneratedValue
+    @Column(columnDefinition = "uuid", updatable = false, name = "id")
+    private UUID id;
+
+    @Column(columnDefinition = "uuid", name = "capacity_group_id", nullable = false)
+    private UUID capacityGroupID;
+
+    @Column(columnDefinition = "uuid", name = "demand_category_id", nullable = false)
+    private UUID demandCategoryID;
+
+    @Column(name = "calendar_week", nullable = false)
+    private LocalDate calendarWeek;
+
+    @Column(name = "demand", nullable = false)
+    private Double demand;
+}
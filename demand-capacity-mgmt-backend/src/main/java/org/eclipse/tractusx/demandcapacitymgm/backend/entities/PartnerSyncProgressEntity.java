@@ -0,0 +1,58 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.PartnerSyncFeed;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "partner_sync_progress")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartnerSyncProgressEntity {
+
+    @Id
+    @Column(columnDefinition = "uuid", updatable = false, name = "id")
+    private UUID id;
+
+    @Column(name = "partner_bpn")
+    private String partnerBpn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "feed")
+    private PartnerSyncFeed feed;
+
+    @Column(name = "acknowledged_version")
+    private long acknowledgedVersion;
+
+    @Column(name = "acknowledged_at")
+    private LocalDateTime acknowledgedAt;
+}
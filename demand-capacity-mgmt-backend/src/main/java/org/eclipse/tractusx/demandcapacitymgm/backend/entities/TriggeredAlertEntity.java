@@ -43,6 +43,9 @@ public class TriggeredAlertEntity {
     @Column(name = "id")
     private UUID id;
 
+    @Column(name = "alert_id")
+    private UUID alertID;
+
     @Column(name = "user_id")
     private UUID userID;
 
@@ -0,0 +1,75 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.entities;
+
+import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandRequest;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.converters.WeekBasedMaterialConverter;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.ChangeOperation;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "week_based_material_demand_change")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekBasedMaterialDemandChangeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "version", updatable = false)
+    private Long version;
+
+    @Column(columnDefinition = "uuid", updatable = false, name = "week_based_material_demand_id")
+    private UUID weekBasedMaterialDemandId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", updatable = false)
+    private ChangeOperation operation;
+
+    @Convert(converter = WeekBasedMaterialConverter.class)
+    @Column(name = "before", columnDefinition = "jsonb", updatable = false)
+    @ColumnTransformer(write = "?::jsonb")
+    private WeekBasedMaterialDemandRequest before;
+
+    @Convert(converter = WeekBasedMaterialConverter.class)
+    @Column(name = "after", columnDefinition = "jsonb", updatable = false)
+    @ColumnTransformer(write = "?::jsonb")
+    private WeekBasedMaterialDemandRequest after;
+
+    @Column(name = "partner_bpn", updatable = false)
+    private String partnerBpn;
+
+    @Column(columnDefinition = "uuid", updatable = false, name = "changed_by")
+    private UUID changedBy;
+
+    @Column(name = "changed_at", updatable = false)
+    private LocalDateTime changedAt;
+}
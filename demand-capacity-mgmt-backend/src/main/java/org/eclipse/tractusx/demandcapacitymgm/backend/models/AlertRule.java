@@ -0,0 +1,68 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.models;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.AlertEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.AlertThresholdType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.AlertsMonitoredObjects;
+
+import java.util.UUID;
+
+/**
+ * An alert with its threshold check resolved up front. Relative thresholds are percentages of the
+ * old value.
+ */
+public record AlertRule(
+    UUID alertId,
+    UUID userID,
+    String alertName,
+    AlertsMonitoredObjects monitoredObjects,
+    AlertThresholdType type,
+    double threshold,
+    boolean relative,
+    boolean increase,
+    double limit,
+    String description
+) {
+    public static AlertRule compile(AlertEntity alertEntity) {
+        boolean relative = AlertThresholdType.RELATIVE.equals(alertEntity.getType());
+        double threshold = alertEntity.getThreshold();
+        boolean increase = threshold >= 0;
+        return new AlertRule(
+            alertEntity.getId(),
+            alertEntity.getUserID(),
+            alertEntity.getAlertName(),
+            alertEntity.getMonitoredObjects(),
+            alertEntity.getType(),
+            threshold,
+            relative,
+            increase,
+            relative ? threshold / 100 : threshold,
+            (increase ? "Increased by " : "Decreased by ") + threshold + (relative ? "%" : " units")
+        );
+    }
+
+    public boolean isTriggeredBy(DemandValueChange change) {
+        double limitValue = relative ? limit * change.oldValue() : limit;
+        return increase ? change.delta() >= limitValue : change.delta() <= limitValue;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.models;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Weekly demand total of one demand series linked to a capacity group,
+ * as aggregated by the database.
+ */
+public interface CapacityGroupWeeklyDemand {
+    UUID getCapacityGroupId();
+
+    UUID getDemandSeriesId();
+
+    LocalDate getCalendarWeek();
+
+    Double getDemand();
+}
@@ -0,0 +1,53 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.models;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Criteria of a logging history search. A log matches when it satisfies any of the given criteria,
+ * unset criteria are ignored. The time range only applies when both bounds are set.
+ */
+public record LoggingHistoryFilter(
+    Timestamp startTime,
+    Timestamp endTime,
+    UUID capacityGroupId,
+    UUID materialDemandId,
+    String text,
+    Collection<EventType> textEventTypes
+) {
+    public boolean hasTimeRange() {
+        return startTime != null && endTime != null;
+    }
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+
+    public boolean isEmpty() {
+        return !hasTimeRange() && capacityGroupId == null && materialDemandId == null && !hasText();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.models;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.AlertEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DedicatedAlertEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable index of the alert rules of one user, split by the kind of change they monitor and by
+ * dedicated object.
+ */
+public record UserAlertRules(
+    List<AlertRule> materialDemandRules,
+    List<AlertRule> capacityRules,
+    Map<UUID, List<AlertRule>> dedicatedRules
+) {
+    public static final UserAlertRules EMPTY = new UserAlertRules(List.of(), List.of(), Map.of());
+
+    public static UserAlertRules compile(Collection<AlertEntity> alerts) {
+        List<AlertRule> materialDemandRules = new ArrayList<>();
+        List<AlertRule> capacityRules = new ArrayList<>();
+        Map<UUID, List<AlertRule>> dedicatedRules = new HashMap<>();
+
+        for (AlertEntity alertEntity : alerts) {
+            if (alertEntity.getMonitoredObjects() == null || alertEntity.getType() == null) {
+                continue;
+            }
+            AlertRule rule = AlertRule.compile(alertEntity);
+            switch (alertEntity.getMonitoredObjects()) {
+                case ALL_DEMANDS, ALL_OBJECTS -> {
+                    materialDemandRules.add(rule);
+                    capacityRules.add(rule);
+                }
+                case ALL_CAPACITIES -> capacityRules.add(rule);
+                case DEDICATED -> {
+                    if (alertEntity.getDedicatedAlerts() != null) {
+                        // An alert listing the same object twice must still trigger only once for it
+                        alertEntity
+                            .getDedicatedAlerts()
+                            .stream()
+                            .map(DedicatedAlertEntity::getObjectId)
+                            .distinct()
+                            .forEach(objectId ->
+                                dedicatedRules.computeIfAbsent(objectId, id -> new ArrayList<>()).add(rule)
+                            );
+                    }
+                }
+            }
+        }
+
+        Map<UUID, List<AlertRule>> frozenDedicatedRules = new HashMap<>();
+        dedicatedRules.forEach((objectId, rules) -> frozenDedicatedRules.put(objectId, List.copyOf(rules)));
+        return new UserAlertRules(
+            List.copyOf(materialDemandRules),
+            List.copyOf(capacityRules),
+            Map.copyOf(frozenDedicatedRules)
+        );
+    }
+
+    /**
+     * Rules that apply to a change of the given object.
+     */
+    public List<AlertRule> rulesFor(UUID objectId, boolean isMaterialDemandChange) {
+        List<AlertRule> globalRules = isMaterialDemandChange ? materialDemandRules : capacityRules;
+        List<AlertRule> objectRules = objectId == null ? null : dedicatedRules.get(objectId);
+        if (objectRules == null) {
+            return globalRules;
+        }
+        List<AlertRule> rules = new ArrayList<>(globalRules.size() + objectRules.size());
+        rules.addAll(globalRules);
+        rules.addAll(objectRules);
+        return rules;
+    }
+}
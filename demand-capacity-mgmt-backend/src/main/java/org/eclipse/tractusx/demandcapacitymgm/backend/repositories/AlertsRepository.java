@@ -24,13 +24,25 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
 
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.AlertEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface AlertsRepository extends JpaRepository<AlertEntity, Integer> {
+public interface AlertsRepository
+    extends JpaRepository<AlertEntity, Integer>, JpaSpecificationExecutor<AlertEntity>, AlertsRepositoryCustom {
     Optional<AlertEntity> findByUserID(UUID userID);
     List<AlertEntity> findAllByUserID(UUID userID);
+    Optional<AlertEntity> findByIdAndUserID(UUID id, UUID userID);
+
+    @Query("select distinct a from AlertEntity a left join fetch a.dedicatedAlerts where a.userID = ?1")
+    List<AlertEntity> findAllWithDedicatedAlertsByUserID(UUID userID);
+
+    @Query("select distinct a from AlertEntity a left join fetch a.dedicatedAlerts where a.id in ?1")
+    List<AlertEntity> findAllWithDedicatedAlertsByIdIn(Collection<UUID> ids);
+
     void deleteByUserID(UUID userID);
 }
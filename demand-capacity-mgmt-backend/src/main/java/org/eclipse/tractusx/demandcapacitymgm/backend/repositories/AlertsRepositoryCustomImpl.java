@@ -0,0 +1,51 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class AlertsRepositoryCustomImpl implements AlertsRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void incrementTriggeredTimes(Map<UUID, Integer> triggersByAlert) {
+        if (triggersByAlert.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = triggersByAlert
+            .entrySet()
+            .stream()
+            .map(entry -> new Object[] { entry.getValue(), entry.getKey() })
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "UPDATE alerts SET triggered_times = coalesce(triggered_times, 0) + ? WHERE id = ?",
+            rows
+        );
+    }
+}
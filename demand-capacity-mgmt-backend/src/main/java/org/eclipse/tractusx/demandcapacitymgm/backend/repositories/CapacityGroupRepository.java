@@ -24,9 +24,11 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
 
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CapacityGroupEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,4 +38,12 @@ public interface CapacityGroupRepository extends JpaRepository<CapacityGroupEnti
     List<CapacityGroupEntity> findBySupplier_Id(UUID id);
     List<CapacityGroupEntity> findByCustomer_Id(@NonNull UUID id);
     List<CapacityGroupEntity> findAll();
+
+    @Query("select c.id from CapacityGroupEntity c where c.customer.id = ?1 or c.supplier.id = ?1")
+    List<UUID> findIdsByCompanyID(UUID companyID);
+
+    @Query(
+        "select c from CapacityGroupEntity c left join fetch c.customer left join fetch c.supplier where c.id in ?1"
+    )
+    List<CapacityGroupEntity> findAllWithCompaniesByIdIn(@NonNull Collection<UUID> ids);
 }
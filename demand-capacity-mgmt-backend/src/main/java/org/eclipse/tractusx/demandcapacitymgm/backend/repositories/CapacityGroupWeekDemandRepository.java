@@ -0,0 +1,86 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CapacityGroupWeekDemandEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CapacityGroupWeekDemandRepository extends JpaRepository<CapacityGroupWeekDemandEntity, UUID> {
+    List<CapacityGroupWeekDemandEntity> findByCapacityGroupIDAndCalendarWeekBetween(
+        UUID capacityGroupID,
+        LocalDate from,
+        LocalDate to
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from CapacityGroupWeekDemandEntity w where w.capacityGroupID in ?1")
+    void deleteByCapacityGroupIDs(Collection<UUID> capacityGroupIDs);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+			insert into capacity_group_week_demand (capacity_group_id, demand_category_id, calendar_week, demand)
+			select l.capacity_group_id, ds.demand_category_code_id, cast(v.calendar_week as date), sum(v.demand)
+			from link_capacitygroup_demandseries l
+			join demand_series ds on ds.material_demand_id = l.material_demand_id
+			join demand_series_values v on v.demand_series_id = ds.id
+			where l.capacity_group_id in (?1) and ds.demand_category_code_id is not null and v.demand is not null
+			group by l.capacity_group_id, ds.demand_category_code_id, cast(v.calendar_week as date)
+			on conflict (capacity_group_id, demand_category_id, calendar_week) do update set demand = excluded.demand""",
+        nativeQuery = true
+    )
+    int insertAggregatesForCapacityGroups(Collection<UUID> capacityGroupIDs);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from capacity_group_week_demand", nativeQuery = true)
+    void deleteAllAggregates();
+
+    @Transactional
+    @Modifying
+    @Query(
+        value = """
+			insert into capacity_group_week_demand (capacity_group_id, demand_category_id, calendar_week, demand)
+			select l.capacity_group_id, ds.demand_category_code_id, cast(v.calendar_week as date), sum(v.demand)
+			from link_capacitygroup_demandseries l
+			join demand_series ds on ds.material_demand_id = l.material_demand_id
+			join demand_series_values v on v.demand_series_id = ds.id
+			where ds.demand_category_code_id is not null and v.demand is not null
+			group by l.capacity_group_id, ds.demand_category_code_id, cast(v.calendar_week as date)
+			on conflict (capacity_group_id, demand_category_id, calendar_week) do update set demand = excluded.demand""",
+        nativeQuery = true
+    )
+    int insertAllAggregates();
+}
@@ -27,6 +27,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -49,4 +50,12 @@ public interface DemandSeriesRepository extends JpaRepository<DemandSeries, UUID
 			"""
     )
     DemandSeries fetchByCGIDandMatID(@NonNull UUID id, @NonNull UUID id2);
+
+    @Query(
+        """
+			select d from DemandSeries d
+			left join fetch d.customerLocation left join fetch d.demandCategory
+			where d.materialDemand.id in ?1"""
+    )
+    List<DemandSeries> findAllByMaterialDemandIds(@NonNull Collection<UUID> materialDemandIDs);
 }
@@ -0,0 +1,36 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandSeriesValues;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface DemandSeriesValuesRepository extends JpaRepository<DemandSeriesValues, UUID> {
+    @Query("select v from DemandSeriesValues v where v.demandSeries.id in ?1 order by v.calendarWeek")
+    List<DemandSeriesValues> findAllByDemandSeriesIds(Collection<UUID> demandSeriesIDs);
+}
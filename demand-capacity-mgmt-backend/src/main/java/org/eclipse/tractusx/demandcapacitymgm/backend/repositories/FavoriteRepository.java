@@ -43,4 +43,9 @@ public interface FavoriteRepository extends JpaRepository<FavoriteEntity, UUID>
     FavoriteEntity findByUserIDAndId(UUID userID, int id);
     List<FavoriteEntity> findByUserID(@NonNull UUID userID);
     List<FavoriteEntity> findByType(FavoriteType type);
+
+    boolean existsByUserIDAndFavoriteId(@NonNull UUID userID, @NonNull UUID favoriteId);
+
+    @Query("select f.favoriteId from FavoriteEntity f where f.userID = ?1 and f.type = ?2")
+    List<UUID> findFavoriteIdsByUserIDAndType(@NonNull UUID userID, @NonNull FavoriteType type);
 }
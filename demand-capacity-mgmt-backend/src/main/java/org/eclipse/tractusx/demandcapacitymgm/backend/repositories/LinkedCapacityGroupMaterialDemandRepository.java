@@ -24,12 +24,15 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
 
 import jakarta.transaction.Transactional;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.LinkedCapacityGroupMaterialDemandEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.CapacityGroupWeeklyDemand;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -37,11 +40,17 @@ import java.util.UUID;
 public interface LinkedCapacityGroupMaterialDemandRepository
     extends JpaRepository<LinkedCapacityGroupMaterialDemandEntity, UUID> {
     LinkedCapacityGroupMaterialDemandEntity findByMaterialDemandID(UUID materialDemandID);
+    List<LinkedCapacityGroupMaterialDemandEntity> findAllByMaterialDemandID(UUID materialDemandID);
     List<LinkedCapacityGroupMaterialDemandEntity> findByCapacityGroupID(@NonNull UUID capacityGroupID);
 
     @Query("select count(l) from LinkedCapacityGroupMaterialDemandEntity l where l.materialDemandID = ?1")
     long countLinkedDemands(UUID materialDemandID);
 
+    @Query(
+        "select distinct l.materialDemandID from LinkedCapacityGroupMaterialDemandEntity l where l.materialDemandID in ?1"
+    )
+    List<UUID> findLinkedMaterialDemandIDs(@NonNull Collection<UUID> materialDemandIDs);
+
     @Transactional
     void deleteByCapacityGroupIDAndMaterialDemandID(UUID capacityGroup, UUID materialDemandID);
 
@@ -53,4 +62,17 @@ public interface LinkedCapacityGroupMaterialDemandRepository
     );
 
     BigDecimal countByCapacityGroupID(UUID id);
+
+    @Query(
+        """
+			select l.capacityGroupID as capacityGroupId, ds.id as demandSeriesId,
+			    v.calendarWeek as calendarWeek, sum(v.demand) as demand
+			from LinkedCapacityGroupMaterialDemandEntity l, DemandSeries ds join ds.demandSeriesValues v
+			where ds.materialDemand.id = l.materialDemandID and l.capacityGroupID in ?1 and v.calendarWeek >= ?2
+			group by l.id, l.capacityGroupID, ds.id, v.calendarWeek"""
+    )
+    List<CapacityGroupWeeklyDemand> sumWeeklyDemandsByCapacityGroups(
+        @NonNull Collection<UUID> capacityGroupIDs,
+        @NonNull LocalDate fromWeek
+    );
 }
@@ -28,10 +28,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface LoggingHistoryRepository extends JpaRepository<LoggingHistoryEntity, Integer> {
+public interface LoggingHistoryRepository
+    extends JpaRepository<LoggingHistoryEntity, Integer>, LoggingHistoryRepositoryCustom {
     @Query("select l from LoggingHistoryEntity l where l.logID = ?1")
     LoggingHistoryEntity findByLogID(@NonNull UUID logID);
+
+    List<LoggingHistoryEntity> findAllByLogIDIn(@NonNull Collection<UUID> logIDs);
+
+    List<LoggingHistoryEntity> findAllByCapacityGroupIdIn(@NonNull Collection<UUID> capacityGroupIds);
+
+    List<LoggingHistoryEntity> findAllByMaterialDemandIdIn(@NonNull Collection<UUID> materialDemandIds);
 }
@@ -0,0 +1,133 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.LoggingHistoryEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.LoggingHistoryFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the search with only the predicates that are set, so PostgreSQL can combine the matching
+ * indexes (see V18 and V20) instead of planning for every optional parameter.
+ */
+@RequiredArgsConstructor
+public class LoggingHistoryRepositoryCustomImpl implements LoggingHistoryRepositoryCustom {
+
+    // event_type and object_type hold the enum ordinals
+    private static final String INSERT_SQL =
+        "INSERT INTO logging_history (log_id, user_account, time_created, event_type, capacity_gp_id, " +
+        "material_demand_id, description, object_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<LoggingHistoryEntity> findFiltered(
+        LoggingHistoryFilter filter,
+        Timestamp afterTimeCreated,
+        Integer afterId,
+        int limit
+    ) {
+        List<String> criteria = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.hasTimeRange()) {
+            criteria.add("(l.time_created > :startTime and l.time_created < :endTime)");
+            parameters.put("startTime", filter.startTime());
+            parameters.put("endTime", filter.endTime());
+        }
+        if (filter.capacityGroupId() != null) {
+            criteria.add("l.capacity_gp_id = :capacityGroupId");
+            parameters.put("capacityGroupId", filter.capacityGroupId());
+        }
+        if (filter.materialDemandId() != null) {
+            criteria.add("l.material_demand_id = :materialDemandId");
+            parameters.put("materialDemandId", filter.materialDemandId());
+        }
+        if (filter.hasText()) {
+            criteria.add(
+                "to_tsvector('simple', coalesce(l.description, '')) @@ plainto_tsquery('simple', :text)"
+            );
+            parameters.put("text", filter.text());
+            if (!filter.textEventTypes().isEmpty()) {
+                criteria.add("l.event_type in (:eventTypes)");
+                parameters.put(
+                    "eventTypes",
+                    filter.textEventTypes().stream().map(type -> (short) type.ordinal()).toList()
+                );
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("select l.* from logging_history l where (");
+        sql.append(String.join(" or ", criteria)).append(")");
+        if (afterTimeCreated != null && afterId != null) {
+            // The plain bound on time_created lets PostgreSQL skip newer partitions
+            sql.append(" and l.time_created <= :afterTimeCreated");
+            sql.append(" and (l.time_created, l.id) < (:afterTimeCreated, :afterId)");
+            parameters.put("afterTimeCreated", afterTimeCreated);
+            parameters.put("afterId", afterId);
+        }
+        sql.append(" order by l.time_created desc, l.id desc limit :limit");
+        parameters.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), LoggingHistoryEntity.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public void insertAll(Collection<LoggingHistoryEntity> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = logs
+            .stream()
+            .map(log ->
+                new Object[] {
+                    log.getLogID(),
+                    log.getUserAccount(),
+                    log.getTime_created(),
+                    log.getEventType() == null ? null : log.getEventType().ordinal(),
+                    log.getCapacityGroupId(),
+                    log.getMaterialDemandId(),
+                    log.getDescription(),
+                    log.getObjectType() == null ? null : log.getObjectType().ordinal(),
+                }
+            )
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
@@ -26,15 +26,21 @@ import jakarta.persistence.Cacheable;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.MaterialDemandEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.MaterialDemandStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 @Cacheable(false)
-public interface MaterialDemandRepository extends JpaRepository<MaterialDemandEntity, UUID> {
+public interface MaterialDemandRepository
+    extends
+        JpaRepository<MaterialDemandEntity, UUID>,
+        JpaSpecificationExecutor<MaterialDemandEntity>,
+        MaterialDemandRepositoryCustom {
     List<MaterialDemandEntity> findBySupplierId_Id(UUID id);
 
     @Query("select m from MaterialDemandEntity m where m.customerId.id = ?1")
@@ -43,15 +49,28 @@ public interface MaterialDemandRepository extends JpaRepository<MaterialDemandEn
     List<MaterialDemandEntity> findAllByStatus(MaterialDemandStatus status);
 
     @Query(
-        "SELECT DISTINCT md FROM MaterialDemandEntity md " +
-        "JOIN FETCH md.demandSeries ds JOIN FETCH ds.demandCategory dc " +
-        "WHERE md.materialNumberCustomer = :materialNumberCustomer " +
-        "AND ds.customerLocation.bpn = :customerLocationBpn " +
-        "AND dc.demandCategoryCode = :demandCategoryCode"
+        "select m from MaterialDemandEntity m left join fetch m.customerId left join fetch m.supplierId " +
+        "left join fetch m.unitMeasure where m.id in ?1"
     )
-    List<MaterialDemandEntity> findAllByMaterialNumberCustomerAndDemandSeriesCustomerLocationAndDemandCategory(
-        String materialNumberCustomer,
-        String customerLocationBpn,
-        String demandCategoryCode
-    );
+    List<MaterialDemandEntity> findAllWithReferencesByIdIn(Collection<UUID> ids);
+
+    @Query(
+        value = """
+			select count(*) from material_demand md
+			where md.customer_id = ?1
+			and not exists (
+			    select 1 from demand_series ds
+			    join demand_series_values v on v.demand_series_id = ds.id
+			    where ds.material_demand_id = md.id and v.demand <> 0
+			)""",
+        nativeQuery = true
+    )
+    long countAllZeroDemandsByCustomer(UUID customerID);
+
+    // link_status holds the EventType ordinal as text
+    @Query(
+        value = "select count(*) from material_demand md where md.supplier_id = ?1 and md.link_status = ?2",
+        nativeQuery = true
+    )
+    long countBySupplierAndLinkStatus(UUID supplierID, String linkStatusOrdinal);
 }
@@ -0,0 +1,105 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandSeries;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandSeriesValues;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.MaterialDemandEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MaterialDemandRepositoryCustomImpl implements MaterialDemandRepositoryCustom {
+
+    // link_status holds the EventType ordinal as text
+    private static final String INSERT_DEMAND_SQL =
+        "INSERT INTO material_demand (id, material_description_customer, material_number_customer, " +
+        "material_number_supplier, changed_at, customer_id, supplier_id, unit_of_measure_id, link_status, status) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SERIES_SQL =
+        "INSERT INTO demand_series (id, material_demand_id, customer_location_id, expected_supplier_location_id, " +
+        "demand_category_code_id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_VALUE_SQL =
+        "INSERT INTO demand_series_values (id, demand_series_id, calendar_week, demand) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Collection<MaterialDemandEntity> materialDemands) {
+        if (materialDemands.isEmpty()) {
+            return;
+        }
+        List<Object[]> demandRows = new ArrayList<>();
+        List<Object[]> seriesRows = new ArrayList<>();
+        List<Object[]> valueRows = new ArrayList<>();
+        for (MaterialDemandEntity demand : materialDemands) {
+            demandRows.add(
+                new Object[] {
+                    demand.getId(),
+                    demand.getMaterialDescriptionCustomer(),
+                    demand.getMaterialNumberCustomer(),
+                    demand.getMaterialNumberSupplier(),
+                    Timestamp.valueOf(demand.getChangedAt()),
+                    demand.getCustomerId() == null ? null : demand.getCustomerId().getId(),
+                    demand.getSupplierId() == null ? null : demand.getSupplierId().getId(),
+                    demand.getUnitMeasure() == null ? null : demand.getUnitMeasure().getId(),
+                    demand.getLinkStatus() == null ? null : String.valueOf(demand.getLinkStatus().ordinal()),
+                    demand.getStatus() == null ? null : demand.getStatus().name(),
+                }
+            );
+            for (DemandSeries series : demand.getDemandSeries()) {
+                seriesRows.add(
+                    new Object[] {
+                        series.getId(),
+                        demand.getId(),
+                        series.getCustomerLocation() == null ? null : series.getCustomerLocation().getId(),
+                        series.getExpectedSupplierLocation() == null
+                            ? null
+                            : String.join(",", series.getExpectedSupplierLocation()),
+                        series.getDemandCategory() == null ? null : series.getDemandCategory().getId(),
+                    }
+                );
+                for (DemandSeriesValues value : series.getDemandSeriesValues()) {
+                    valueRows.add(
+                        new Object[] {
+                            value.getId(),
+                            series.getId(),
+                            Timestamp.valueOf(value.getCalendarWeek().atStartOfDay()),
+                            value.getDemand(),
+                        }
+                    );
+                }
+            }
+        }
+        // Parents first, the foreign keys are checked per statement
+        jdbcTemplate.batchUpdate(INSERT_DEMAND_SQL, demandRows);
+        jdbcTemplate.batchUpdate(INSERT_SERIES_SQL, seriesRows);
+        jdbcTemplate.batchUpdate(INSERT_VALUE_SQL, valueRows);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.PartnerSyncFeed;
+
+import java.util.Collection;
+
+public interface PartnerSyncProgressRepositoryCustom {
+    /**
+     * Starts tracking the partners that are not tracked yet for the feed, from the beginning of the feed.
+     */
+    void registerPartners(PartnerSyncFeed feed, Collection<String> partnerBpns);
+
+    /**
+     * Records that the partner acknowledged the feed up to the version. The progress never moves backwards.
+     */
+    void acknowledge(PartnerSyncFeed feed, String partnerBpn, long version);
+}
@@ -0,0 +1,65 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.PartnerSyncFeed;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class PartnerSyncProgressRepositoryCustomImpl implements PartnerSyncProgressRepositoryCustom {
+
+    private static final String REGISTER_SQL =
+        """
+        INSERT INTO partner_sync_progress (id, partner_bpn, feed)
+        VALUES (?, ?, ?)
+        ON CONFLICT (partner_bpn, feed) DO NOTHING""";
+
+    private static final String ACKNOWLEDGE_SQL =
+        """
+        UPDATE partner_sync_progress
+        SET acknowledged_version = ?, acknowledged_at = now()
+        WHERE feed = ? AND partner_bpn = ? AND acknowledged_version < ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void registerPartners(PartnerSyncFeed feed, Collection<String> partnerBpns) {
+        List<Object[]> rows = partnerBpns
+            .stream()
+            .distinct()
+            .map(partnerBpn -> new Object[] { UUID.randomUUID(), partnerBpn, feed.name() })
+            .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(REGISTER_SQL, rows);
+        }
+    }
+
+    @Override
+    public void acknowledge(PartnerSyncFeed feed, String partnerBpn, long version) {
+        jdbcTemplate.update(ACKNOWLEDGE_SQL, version, feed.name(), partnerBpn, version);
+    }
+}
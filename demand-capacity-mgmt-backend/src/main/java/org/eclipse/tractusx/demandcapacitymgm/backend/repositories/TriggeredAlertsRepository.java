@@ -24,5 +24,15 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
 
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.TriggeredAlertEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface TriggeredAlertsRepository extends JpaRepository<TriggeredAlertEntity, Integer> {}
+import java.util.List;
+import java.util.UUID;
+
+public interface TriggeredAlertsRepository
+    extends
+        JpaRepository<TriggeredAlertEntity, Integer>,
+        JpaSpecificationExecutor<TriggeredAlertEntity>,
+        TriggeredAlertsRepositoryCustom {
+    List<TriggeredAlertEntity> findAllByUserIDOrderByCreatedDesc(UUID userID);
+}
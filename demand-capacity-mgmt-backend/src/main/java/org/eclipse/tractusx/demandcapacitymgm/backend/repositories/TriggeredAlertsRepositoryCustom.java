@@ -0,0 +1,39 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.TriggeredAlertEntity;
+
+import java.util.Collection;
+
+public interface TriggeredAlertsRepositoryCustom {
+    /**
+     * Inserts new triggered alerts with one JDBC batch, without the per row lookup of save().
+     */
+    void insertAll(Collection<TriggeredAlertEntity> triggeredAlerts);
+
+    /**
+     * Moves triggered alerts created before the cutoff into the daily rollup and deletes them.
+     * Returns the number of rolled up alerts.
+     */
+    int rollupCreatedBefore(String cutoff);
+}
@@ -0,0 +1,95 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.TriggeredAlertEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TriggeredAlertsRepositoryCustomImpl implements TriggeredAlertsRepositoryCustom {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO triggered_alerts " +
+        "(id, alert_id, user_id, alert_name, created, description, monitored_objects, type, threshold) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // created holds Timestamp.toString() values, which sort like the timestamps they describe.
+    // The conflict target repeats the expressions of triggered_alerts_daily_alert_day_uq.
+    private static final String ROLLUP_SQL =
+        """
+        WITH expired AS (
+            DELETE FROM triggered_alerts WHERE created < ?
+            RETURNING alert_id, user_id, alert_name, type, monitored_objects, created
+        ), rolled_up AS (
+            INSERT INTO triggered_alerts_daily
+                (alert_id, user_id, alert_name, type, monitored_objects, day, triggered_count)
+            SELECT alert_id, user_id, alert_name, type, monitored_objects, cast(left(created, 10) AS date), count(*)
+            FROM expired
+            GROUP BY alert_id, user_id, alert_name, type, monitored_objects, cast(left(created, 10) AS date)
+            ON CONFLICT (
+                coalesce(alert_id, '00000000-0000-0000-0000-000000000000'::uuid),
+                coalesce(user_id, '00000000-0000-0000-0000-000000000000'::uuid),
+                coalesce(alert_name, ''),
+                coalesce(type, ''),
+                coalesce(monitored_objects, ''),
+                day
+            )
+            DO UPDATE SET triggered_count = triggered_alerts_daily.triggered_count + excluded.triggered_count
+        )
+        SELECT count(*) FROM expired""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Collection<TriggeredAlertEntity> triggeredAlerts) {
+        if (triggeredAlerts.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = triggeredAlerts
+            .stream()
+            .map(alert ->
+                new Object[] {
+                    alert.getId(),
+                    alert.getAlertID(),
+                    alert.getUserID(),
+                    alert.getAlertName(),
+                    alert.getCreated(),
+                    alert.getDescription(),
+                    alert.getMonitoredObjects() == null ? null : alert.getMonitoredObjects().name(),
+                    alert.getType() == null ? null : alert.getType().name(),
+                    alert.getThreshold(),
+                }
+            )
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    public int rollupCreatedBefore(String cutoff) {
+        Integer rolledUp = jdbcTemplate.queryForObject(ROLLUP_SQL, Integer.class, cutoff);
+        return rolledUp == null ? 0 : rolledUp;
+    }
+}
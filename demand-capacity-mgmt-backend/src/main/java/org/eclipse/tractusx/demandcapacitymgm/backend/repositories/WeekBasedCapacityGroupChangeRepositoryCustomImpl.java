@@ -0,0 +1,39 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class WeekBasedCapacityGroupChangeRepositoryCustomImpl implements WeekBasedCapacityGroupChangeRepositoryCustom {
+
+    // Arbitrary key of the advisory lock, unique among the advisory locks of the application
+    private static final long APPEND_LOCK_KEY = 0x57424347L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockForAppend() {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> {}, APPEND_LOCK_KEY);
+    }
+}
@@ -26,9 +26,11 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.WeekBasedCapacity
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface WeekBasedCapacityGroupRepository extends JpaRepository<WeekBasedCapacityGroupEntity, Integer> {
-    List<WeekBasedCapacityGroupEntity> getAllByViewed(Boolean viewed);
+public interface WeekBasedCapacityGroupRepository
+    extends JpaRepository<WeekBasedCapacityGroupEntity, Integer>, WeekBasedCapacityGroupRepositoryCustom {
+    Optional<WeekBasedCapacityGroupEntity> findFirstById(UUID id);
 }
@@ -0,0 +1,37 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+public interface WeekBasedCapacityGroupRepositoryCustom {
+    /**
+     * Claims up to limit unviewed rows, skipping rows another transaction holds, assigns their capacity
+     * group to all matching demand series and marks the rows viewed, all in one statement.
+     */
+    IngestedChunk ingestUnviewed(int limit);
+
+    /**
+     * Age in seconds of the oldest unviewed row, 0 when all rows are viewed.
+     */
+    long getUnviewedLagSeconds();
+
+    record IngestedChunk(int claimedRows, int assignedSeries) {}
+}
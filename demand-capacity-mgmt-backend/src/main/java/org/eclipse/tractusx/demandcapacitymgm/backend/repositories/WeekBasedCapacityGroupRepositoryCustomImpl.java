@@ -0,0 +1,92 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class WeekBasedCapacityGroupRepositoryCustomImpl implements WeekBasedCapacityGroupRepositoryCustom {
+
+    // data holds the Gson form of WeekBasedCapacityGroupRequest, so the keys are its field names
+    private static final String INGEST_SQL =
+        """
+        WITH claimed AS (
+            SELECT id, data, received_at FROM week_based_capacity
+            WHERE viewed = false
+            ORDER BY received_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ), links AS (
+            SELECT c.data ->> 'capacityGroupId' AS capacity_group_id,
+                c.received_at,
+                l ->> 'materialNumberCustomer' AS material_number_customer,
+                l ->> 'customerLocation' AS customer_location,
+                l -> 'demandCategory' ->> 'demandCategory' AS demand_category_code
+            FROM claimed c
+            CROSS JOIN LATERAL jsonb_array_elements(
+                CASE WHEN jsonb_typeof(c.data -> 'linkedDemandSeries') = 'array'
+                    THEN c.data -> 'linkedDemandSeries' ELSE '[]'::jsonb END
+            ) l
+        ), latest_links AS (
+            -- When several claimed groups link the same series, the most recently received one wins
+            SELECT DISTINCT ON (ds.id) ds.id AS demand_series_id, links.capacity_group_id
+            FROM links, demand_series ds, material_demand md, company_base_data location, demand_category dc
+            WHERE md.id = ds.material_demand_id
+                AND md.material_number_customer = links.material_number_customer
+                AND location.id = ds.customer_location_id AND location.bpn = links.customer_location
+                AND dc.id = ds.demand_category_code_id AND dc.demand_category_code = links.demand_category_code
+            ORDER BY ds.id, links.received_at DESC, links.capacity_group_id DESC
+        ), assigned AS (
+            UPDATE demand_series ds SET capacity_group_id = latest_links.capacity_group_id
+            FROM latest_links
+            WHERE ds.id = latest_links.demand_series_id
+            RETURNING ds.id
+        ), marked AS (
+            UPDATE week_based_capacity w SET viewed = true
+            FROM claimed
+            WHERE w.id = claimed.id
+            RETURNING w.id
+        )
+        SELECT (SELECT count(*) FROM marked) AS claimed_rows, (SELECT count(*) FROM assigned) AS assigned_series""";
+
+    private static final String LAG_SQL =
+        "SELECT coalesce(extract(epoch FROM now() - min(received_at)), 0) " +
+        "FROM week_based_capacity WHERE viewed = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public IngestedChunk ingestUnviewed(int limit) {
+        return jdbcTemplate.queryForObject(
+            INGEST_SQL,
+            (rs, rowNum) -> new IngestedChunk(rs.getInt("claimed_rows"), rs.getInt("assigned_series")),
+            limit
+        );
+    }
+
+    @Override
+    public long getUnviewedLagSeconds() {
+        Double lag = jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+        return lag == null ? 0 : lag.longValue();
+    }
+}
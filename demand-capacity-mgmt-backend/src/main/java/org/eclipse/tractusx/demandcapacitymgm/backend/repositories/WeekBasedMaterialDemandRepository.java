@@ -27,8 +27,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface WeekBasedMaterialDemandRepository extends JpaRepository<WeekBasedMaterialDemandEntity, Integer> {
     List<WeekBasedMaterialDemandEntity> getAllByViewed(Boolean viewed);
+
+    Optional<WeekBasedMaterialDemandEntity> findFirstById(UUID id);
 }
@@ -0,0 +1,82 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.schedulers.maintenance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.LoggingPartitionProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ScheduledJobService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions created by V20 ahead of the current date and drops expired ones.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoggingPartitionScheduler {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("logging_history", "archived_log");
+    private static final Duration PERIOD = Duration.ofDays(1);
+
+    private final LoggingPartitionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobService scheduledJobService;
+
+    @Scheduled(initialDelay = 60 * 1000, fixedRate = 24 * 60 * 60 * 1000)
+    public void maintainPartitions() {
+        scheduledJobService.runExclusively("logging-partitions", PERIOD, this::createAndDropPartitions);
+    }
+
+    private int createAndDropPartitions() {
+        int droppedPartitions = 0;
+        LocalDate today = LocalDate.now();
+        for (String table : PARTITIONED_TABLES) {
+            jdbcTemplate.queryForList(
+                "select create_monthly_partitions(?, ?, ?)",
+                table,
+                Date.valueOf(today),
+                Date.valueOf(today.plusMonths(properties.monthsAhead()))
+            );
+            if (properties.retentionMonths() > 0) {
+                Integer dropped = jdbcTemplate.queryForObject(
+                    "select drop_monthly_partitions_before(?, ?)",
+                    Integer.class,
+                    table,
+                    Date.valueOf(today.minusMonths(properties.retentionMonths()))
+                );
+                if (dropped != null && dropped > 0) {
+                    log.info("Dropped {} expired partitions of {}", dropped, table);
+                    droppedPartitions += dropped;
+                }
+            }
+        }
+        return droppedPartitions;
+    }
+}
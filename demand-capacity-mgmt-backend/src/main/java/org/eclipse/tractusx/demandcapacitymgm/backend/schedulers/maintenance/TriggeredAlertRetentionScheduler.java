@@ -0,0 +1,66 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.schedulers.maintenance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.TriggeredAlertRetentionProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.AlertService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ScheduledJobService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Rolls triggered alerts past the retention period up into triggered_alerts_daily.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TriggeredAlertRetentionScheduler {
+
+    private static final Duration PERIOD = Duration.ofDays(1);
+
+    private final TriggeredAlertRetentionProperties properties;
+    private final AlertService alertService;
+    private final ScheduledJobService scheduledJobService;
+
+    @Scheduled(initialDelay = 5 * 60 * 1000, fixedRate = 24 * 60 * 60 * 1000)
+    public void rollupExpiredTriggeredAlerts() {
+        if (properties.retentionDays() <= 0) {
+            return;
+        }
+        scheduledJobService.runExclusively("triggered-alert-rollup", PERIOD, this::rollup);
+    }
+
+    private int rollup() {
+        int rolledUp = alertService.rollupTriggeredAlertsBefore(
+            LocalDate.now().minusDays(properties.retentionDays()).atStartOfDay()
+        );
+        if (rolledUp > 0) {
+            log.info("Rolled up {} triggered alerts older than {} days", rolledUp, properties.retentionDays());
+        }
+        return rolledUp;
+    }
+}
@@ -23,20 +23,28 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.schedulers.received;
 
 import lombok.AllArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ScheduledJobService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.WeekBasedMaterialService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.net.URISyntaxException;
+import java.time.Duration;
 
 @Component
 @AllArgsConstructor
 public class WeekBasedMaterialSchedulerReceived {
 
+    private static final Duration PERIOD = Duration.ofHours(1);
+
     private final WeekBasedMaterialService weekBasedMaterialService;
+    private final ScheduledJobService scheduledJobService;
 
     @Scheduled(fixedRate = 60 * 60 * 1000)
-    public void materialDemandSync() throws URISyntaxException {
-        weekBasedMaterialService.receiveWeekBasedMaterial();
+    public void materialDemandSync() {
+        scheduledJobService.runExclusively(
+            "week-based-material-receive",
+            PERIOD,
+            weekBasedMaterialService::receiveWeekBasedMaterial
+        );
     }
 }
@@ -23,18 +23,28 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.schedulers.send;
 
 import lombok.AllArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ScheduledJobService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.WeekBasedCapacityGroupService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @AllArgsConstructor
 public class WeekBasedCapacityGroupScheduler {
 
+    private static final Duration PERIOD = Duration.ofHours(1);
+
     private final WeekBasedCapacityGroupService weekBasedCapacityGroupService;
+    private final ScheduledJobService scheduledJobService;
 
     @Scheduled(fixedRate = 60 * 60 * 1000)
     public void capacityGroupSync() {
-        weekBasedCapacityGroupService.sendWeekBasedCapacityGroup();
+        scheduledJobService.runExclusively(
+            "week-based-capacity-group-send",
+            PERIOD,
+            weekBasedCapacityGroupService::sendWeekBasedCapacityGroup
+        );
     }
 }
@@ -22,23 +22,38 @@
 
 package org.eclipse.tractusx.demandcapacitymgm.backend.services;
 
+import eclipse.tractusx.demandcapacitymgm.specification.model.AlertPageResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.AlertRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.AlertResponse;
+import eclipse.tractusx.demandcapacitymgm.specification.model.TriggeredAlertPageResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.TriggeredAlertRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.TriggeredAlertResponse;
 
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.DemandValueChange;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AlertService {
     AlertResponse configureAlert(AlertRequest alertRequest);
+    void deleteAlert(String userID, String alertId);
+    /**
+     * Evaluates all alerts of the user against the whole set of changed values and stores the triggered
+     * alerts in one batch.
+     */
     void triggerDemandAlertsIfNeeded(
         String userID,
         boolean isMaterialDemandChange,
-        double oldDemandValue,
-        double newDemandValue,
-        String materialDemandId
+        Collection<DemandValueChange> changes
     );
     List<AlertResponse> getAlerts(String userID);
     List<TriggeredAlertResponse> getTriggeredAlerts(String userID);
+    AlertPageResponse getAlertsPage(String userID, String cursor, Integer size);
+    TriggeredAlertPageResponse getTriggeredAlertsPage(String userID, String cursor, Integer size);
+    /**
+     * Folds triggered alerts older than the cutoff into daily counts and deletes them.
+     */
+    int rollupTriggeredAlertsBefore(LocalDateTime cutoff);
     TriggeredAlertResponse postTriggeredAlerts(TriggeredAlertRequest triggeredAlertRequest);
 }
@@ -32,6 +32,17 @@ public interface DemandService {
     MaterialDemandResponse createDemand(MaterialDemandRequest materialDemandRequest, String userID);
 
     List<MaterialDemandResponse> getAllDemandsByProjectId();
+
+    MaterialDemandPageResponse getDemandsPage(
+        String cursor,
+        Integer size,
+        String customer,
+        String supplier,
+        String linkStatus,
+        String materialNumber,
+        String userID
+    );
+
     MaterialDemandEntity getDemandEntityById(String demandId);
 
     MaterialDemandResponse getDemandById(String demandId);
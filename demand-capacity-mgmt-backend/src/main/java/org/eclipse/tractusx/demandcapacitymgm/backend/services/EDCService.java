@@ -26,32 +26,31 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.xml.catalog.Catalog;
-import java.util.List;
 
 public interface EDCService {
     Mono<IdResponse> createAsset(AssetEntryNewDto dto);
 
-    List<Asset> createAssetRequest(QuerySpec dto);
+    Flux<Asset> createAssetRequest(QuerySpec dto);
 
-    Asset getAsset(String assetId);
+    Mono<Asset> getAsset(String assetId);
 
-    Void deleteAsset(String assetId);
+    Mono<Void> deleteAsset(String assetId);
 
     Mono<IdResponse> createPolicy(PolicyDefinitionInput dto);
 
-    List<PolicyDefinitionOutput> createPolicyRequest(QuerySpec dto);
+    Flux<PolicyDefinitionOutput> createPolicyRequest(QuerySpec dto);
 
-    PolicyDefinitionOutput getPolicy(String policyId);
+    Mono<PolicyDefinitionOutput> getPolicy(String policyId);
 
-    Void deletePolicy(String policyId);
+    Mono<Void> deletePolicy(String policyId);
 
     Mono<IdResponse> createContractDef(ContractDefinitionInput dto);
 
-    List<ContractDefinitionOutput> createContractDefRequest(QuerySpec dto);
+    Flux<ContractDefinitionOutput> createContractDefRequest(QuerySpec dto);
 
-    ContractDefinitionOutput getContractDef(String contractDefId);
+    Mono<ContractDefinitionOutput> getContractDef(String contractDefId);
 
-    Void deleteContractDef(String contractDefId);
+    Mono<Void> deleteContractDef(String contractDefId);
 
     Mono<Catalog> createCatalogRequest(CatalogRequest dto);
 
@@ -76,4 +75,6 @@ public interface EDCService {
     Mono<AssetRequest> createAASRequest(AssetRequest dto);
 
     Mono<EndpointDataReferenceEntry> getEDRSByParameters(String agreementId, String assetId, String providerId);
+
+    Flux<EndpointDataReferenceEntry> getEDRS(String assetId, String providerId);
 }
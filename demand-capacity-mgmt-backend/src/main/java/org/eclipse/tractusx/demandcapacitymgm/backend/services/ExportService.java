@@ -0,0 +1,46 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFilter;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams large extracts from a database cursor, one flat row per series value or calendar week.
+ */
+public interface ExportService {
+    ExportFormat parseFormat(String format);
+
+    ExportFilter parseFilter(String company, String from, String to, String linkStatus);
+
+    void exportDemands(ExportFilter filter, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Capacity groups are scoped to the user like the capacity group list.
+     */
+    void exportCapacityGroups(ExportFilter filter, ExportFormat format, String userID, Role role, OutputStream out)
+        throws IOException;
+}
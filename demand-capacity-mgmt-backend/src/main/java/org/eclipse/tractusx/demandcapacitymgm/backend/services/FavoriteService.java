@@ -26,10 +26,20 @@ import eclipse.tractusx.demandcapacitymgm.specification.model.FavoriteRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.FavoriteResponse;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.FavoriteType;
 
+import java.util.List;
+import java.util.UUID;
+
 public interface FavoriteService {
     FavoriteResponse getAllFavorites(String userID);
 
     FavoriteResponse getAllFavoritesByType(String userID, FavoriteType type);
+
+    /**
+     * Whether the user marked the object as favorite, without resolving any favorite.
+     */
+    boolean isFavorite(String userID, UUID objectId);
+
+    List<UUID> getFavoriteIds(String userID, FavoriteType type);
     void createFavorite(FavoriteRequest favoriteRequest, String userID);
     void deleteFavorite(String userID, String favoriteID);
 }
@@ -23,6 +23,7 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.services;
 
 import eclipse.tractusx.demandcapacitymgm.specification.model.ArchivedLoggingHistoryResponse;
+import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryPageResponse;
 import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryRequest;
 import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryResponse;
 
@@ -31,6 +32,10 @@ import java.util.List;
 public interface LoggingHistoryService {
     List<LoggingHistoryResponse> getAllLoggingHistory();
     LoggingHistoryResponse createLog(LoggingHistoryRequest logEntity);
+    /**
+     * Like createLog, but the log is written in the background and no response is built.
+     */
+    void postLog(LoggingHistoryRequest loggingHistoryRequest);
     void deleteLogById(String logId);
     void deleteAllLogs();
     void archiveLog(LoggingHistoryRequest loggingHistoryRequest);
@@ -40,12 +45,14 @@ public interface LoggingHistoryService {
     List<LoggingHistoryResponse> filterByFavoriteMaterialDemand(String userID);
     List<LoggingHistoryResponse> filterByFavoriteCapacityGroup(String userID);
 
-    List<LoggingHistoryResponse> filterLog(
+    LoggingHistoryPageResponse filterLog(
         String capacityGroupId,
         String materialDemandId,
         String filterText,
         String startTime,
-        String endTime
+        String endTime,
+        String cursor,
+        Integer size
     );
     List<LoggingHistoryResponse> getLogsManagedByMe();
 }
@@ -0,0 +1,52 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CompanyEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandCategoryEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UnitMeasureEntity;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Application wide cache of near-static reference data. Returned entities are shared between threads
+ * and must be treated as read-only. Units of measure and demand categories are only written by
+ * migrations, so they are never evicted and just expire after the ttl.
+ */
+public interface ReferenceDataCacheService {
+    Optional<CompanyEntity> findCompany(UUID id);
+
+    Optional<UnitMeasureEntity> findUnitMeasure(UUID id);
+
+    Optional<DemandCategoryEntity> findDemandCategory(UUID id);
+
+    void evictCompany(UUID id);
+
+    /**
+     * Counts a lookup of the company towards its popularity. Uses are accumulated in memory and
+     * written in batches.
+     */
+    void recordCompanyUse(UUID id);
+
+    void flushCompanyUses();
+}
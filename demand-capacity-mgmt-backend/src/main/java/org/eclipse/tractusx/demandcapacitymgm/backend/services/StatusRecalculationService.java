@@ -0,0 +1,42 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services;
+
+public interface StatusRecalculationService {
+    /**
+     * Marks the statuses of a user as stale. Bursts of signals for the same user are
+     * coalesced into a single bottleneck and todo recalculation that runs once the
+     * surrounding transaction, if any, has committed.
+     */
+    void markDirty(String userID);
+
+    /**
+     * Schedules a background recalculation, without logging the status changes, unless the statuses of
+     * the user were calculated recently. Used on login, which serves the last calculated statuses.
+     */
+    void refreshIfStale(String userID);
+
+    boolean isPending(String userID);
+
+    int getPendingCount();
+}
@@ -35,9 +35,9 @@ public interface WeekBasedCapacityGroupService {
         String userID
     );
 
-    void receiveWeekBasedCapacityGroup();
+    int receiveWeekBasedCapacityGroup();
 
-    void sendWeekBasedCapacityGroup();
+    int sendWeekBasedCapacityGroup();
 
     List<WeekBasedCapacityGroupDtoResponse> getWeekBasedCapacityGroups();
 
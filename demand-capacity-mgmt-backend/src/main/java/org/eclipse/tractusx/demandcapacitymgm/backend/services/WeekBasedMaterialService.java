@@ -22,6 +22,7 @@
 
 package org.eclipse.tractusx.demandcapacitymgm.backend.services;
 
+import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandChangePage;
 import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandRequestDto;
 import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandResponseDto;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.MaterialDemandEntity;
@@ -33,12 +34,17 @@ public interface WeekBasedMaterialService {
         List<WeekBasedMaterialDemandRequestDto> weekBasedMaterialDemandRequestDto,
         String userID
     );
-    void sendWeekBasedMaterial();
-    void receiveWeekBasedMaterial();
+    int sendWeekBasedMaterial();
+    int receiveWeekBasedMaterial();
 
     List<WeekBasedMaterialDemandResponseDto> getWeekBasedMaterialDemands();
-    List<WeekBasedMaterialDemandResponseDto> getOldWeekBasedMaterialDemands();
-    List<WeekBasedMaterialDemandResponseDto> getUpdatedWeekBasedMaterialDemands();
+
+    /**
+     * Returns up to size changes with a version above since, oldest first. Clients pass the lastVersion
+     * of the returned page as since of the next call.
+     */
+    WeekBasedMaterialDemandChangePage getWeekBasedMaterialDemandChanges(Long since, Integer size);
+
     WeekBasedMaterialDemandResponseDto updateWeekBasedMaterial(
         String id,
         WeekBasedMaterialDemandRequestDto weekBasedMaterialDemandRequestDto,
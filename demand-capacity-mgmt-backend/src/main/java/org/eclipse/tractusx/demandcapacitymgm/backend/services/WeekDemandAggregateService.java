@@ -0,0 +1,44 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Maintains the capacity_group_week_demand buckets, the weekly demand totals per capacity group and
+ * demand category.
+ */
+public interface WeekDemandAggregateService {
+    void refreshCapacityGroups(Collection<UUID> capacityGroupIDs);
+
+    /**
+     * Returns the capacity groups a material demand is currently linked to. Callers removing links
+     * resolve them first and pass them to {@link #refreshCapacityGroups(Collection)} afterward.
+     */
+    Collection<UUID> findLinkedCapacityGroups(UUID materialDemandID);
+
+    void refreshForMaterialDemand(UUID materialDemandID);
+
+    int rebuild();
+}
@@ -0,0 +1,79 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.AlertRuleIndexProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.UserAlertRules;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.AlertsRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.AlertRuleIndexService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.TransactionUtil;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+@Service
+public class AlertRuleIndexServiceImpl implements AlertRuleIndexService {
+
+    private final AlertsRepository alertsRepository;
+    private final AlertRuleIndexProperties properties;
+
+    // Invalidation only reaches this node, so entries also expire to pick up alert changes made on other replicas
+    private final Map<UUID, CachedRules> rulesByUser = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so rules compiled concurrently from stale alerts are not stored
+    private long generation;
+
+    @Override
+    public UserAlertRules rulesOf(UUID userID) {
+        CachedRules cached = rulesByUser.get(userID);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < properties.ttl().toNanos()) {
+            return cached.rules();
+        }
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        UserAlertRules rules = UserAlertRules.compile(alertsRepository.findAllWithDedicatedAlertsByUserID(userID));
+        synchronized (this) {
+            if (startGeneration == generation) {
+                rulesByUser.put(userID, new CachedRules(rules, System.nanoTime()));
+            }
+        }
+        return rules;
+    }
+
+    @Override
+    public void invalidate(UUID userID) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                rulesByUser.remove(userID);
+            }
+        });
+    }
+
+    private record CachedRules(UserAlertRules rules, long loadedAt) {}
+}
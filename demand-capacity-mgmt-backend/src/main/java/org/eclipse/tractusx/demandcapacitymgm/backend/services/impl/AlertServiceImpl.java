@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
 
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.AlertEntity;
@@ -30,16 +31,30 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.TriggeredAlertEnt
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.AlertThresholdType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.AlertsMonitoredObjects;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.AlertRule;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.DemandValueChange;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.UserAlertRules;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.AlertsRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.TriggeredAlertsRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.AlertRuleIndexService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.AlertService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.CursorUtil;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.UUID;
 
 @Lazy
@@ -48,172 +63,183 @@ import java.util.UUID;
 @Slf4j
 public class AlertServiceImpl implements AlertService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Sort PAGE_SORT = Sort
+        .by(Sort.Direction.DESC, "created")
+        .and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final AlertsRepository alertsRepository;
     private final TriggeredAlertsRepository triggeredAlertsRepository;
+    private final AlertRuleIndexService alertRuleIndexService;
 
     @Override
     public AlertResponse configureAlert(AlertRequest alertRequest) {
         AlertEntity alertEntity = convertDtoToEntity(alertRequest);
         alertsRepository.save(alertEntity);
+        alertRuleIndexService.invalidate(alertEntity.getUserID());
         return convertAlertsResponseDto(alertEntity);
     }
 
     @Override
+    @Transactional
+    public void deleteAlert(String userID, String alertId) {
+        if (!UUIDUtil.checkValidUUID(alertId)) {
+            throw new BadRequestException("1", "10");
+        }
+        AlertEntity alertEntity = alertsRepository
+            .findByIdAndUserID(UUID.fromString(alertId), UUID.fromString(userID))
+            .orElseThrow(() -> new NotFoundException("4", "04"));
+        alertsRepository.delete(alertEntity);
+        alertRuleIndexService.invalidate(alertEntity.getUserID());
+    }
+
+    @Override
+    @Transactional
     public void triggerDemandAlertsIfNeeded(
         String userID,
         boolean isMaterialDemandChange,
-        double oldValue,
-        double newValue,
-        String materialDemandId
+        Collection<DemandValueChange> changes
     ) {
-        List<AlertEntity> alerts = alertsRepository.findAllByUserID(UUID.fromString(userID));
-		alerts.forEach(alertEntity -> {
-			TriggeredAlertEntity triggeredAlertEntity = new TriggeredAlertEntity();
-			triggeredAlertEntity.setId(UUID.randomUUID());
-			triggeredAlertEntity.setAlertName(alertEntity.getAlertName());
-			triggeredAlertEntity.setType(alertEntity.getType());
-			triggeredAlertEntity.setUserID(alertEntity.getUserID());
-			triggeredAlertEntity.setMonitoredObjects(alertEntity.getMonitoredObjects());
-			triggeredAlertEntity.setThreshold(alertEntity.getThreshold());
-			LocalDateTime currentLocalDateTime = LocalDateTime.now();
-			triggeredAlertEntity.setCreated(Timestamp.valueOf(currentLocalDateTime).toString());
-			if (isGlobalAlert(isMaterialDemandChange, alertEntity)) {
-				if (alertEntity.getType().equals(AlertThresholdType.RELATIVE)) {
-					double threshold = alertEntity.getThreshold() / 100;
-					double demandDelta = threshold * oldValue;
-					if (threshold >= 0 && (newValue - oldValue >= demandDelta)) {
-						fillTriggeredAlert(
-							triggeredAlertEntity,
-							"Increased by ",
-							alertEntity.getThreshold(),
-							true,
-							alertEntity
-						);
-					} else if ((threshold < 0 && (newValue - oldValue <= demandDelta))) {
-						fillTriggeredAlert(
-							triggeredAlertEntity,
-							"Decreased by ",
-							alertEntity.getThreshold(),
-							true,
-							alertEntity
-						);
-					}
-				} else if (alertEntity.getType().equals(AlertThresholdType.ABSOLUTE)) {
-					double threshold = alertEntity.getThreshold();
-					if (threshold >= 0 && (newValue - oldValue >= threshold)) {
-						fillTriggeredAlert(triggeredAlertEntity, "Increased by ", threshold, false, alertEntity);
-					} else if ((threshold < 0 && (newValue - oldValue <= threshold))) {
-						fillTriggeredAlert(triggeredAlertEntity, "Decreased by ", threshold, false, alertEntity);
-					}
-				}
-			} else if (alertEntity.getMonitoredObjects().equals(AlertsMonitoredObjects.DEDICATED)) {
-				alertEntity
-					.getDedicatedAlerts()
-					.forEach(dedicatedAlert -> {
-						if (Objects.equals(materialDemandId, dedicatedAlert.getObjectId().toString())) {
-							if (alertEntity.getType().equals(AlertThresholdType.ABSOLUTE)) {
-								double threshold = alertEntity.getThreshold();
-								if (threshold >= 0 && (newValue - oldValue >= threshold)) {
-									fillTriggeredAlert(
-										triggeredAlertEntity,
-										"Increased by ",
-										threshold,
-										false,
-										alertEntity
-									);
-								} else if ((threshold < 0 && (newValue - oldValue <= threshold))) {
-									fillTriggeredAlert(
-										triggeredAlertEntity,
-										"Decreased by ",
-										threshold,
-										false,
-										alertEntity
-									);
-								}
-							} else {
-								double threshold = alertEntity.getThreshold() / 100;
-								double demandDelta = alertEntity.getThreshold() * oldValue;
-								if (threshold >= 0 && (newValue - oldValue >= demandDelta)) {
-									fillTriggeredAlert(
-										triggeredAlertEntity,
-										"Increased by ",
-										threshold,
-										true,
-										alertEntity
-									);
-								} else if ((threshold < 0 && (newValue - oldValue <= demandDelta))) {
-									fillTriggeredAlert(
-										triggeredAlertEntity,
-										"Decreased by ",
-										threshold,
-										true,
-										alertEntity
-									);
-								}
-							}
-						}
-					});
-			}
-		});
-    }
+        if (changes.isEmpty()) {
+            return;
+        }
+        UserAlertRules rules = alertRuleIndexService.rulesOf(UUID.fromString(userID));
+        String created = Timestamp.valueOf(LocalDateTime.now()).toString();
 
-    private void fillTriggeredAlert(
-        TriggeredAlertEntity triggeredAlertEntity,
-        String message,
-        double threshold,
-        boolean isRelative,
-        AlertEntity alertEntity
-    ) {
-        triggeredAlertEntity.setDescription(message + threshold + (isRelative ? "%" : " units"));
-        alertEntity.setTriggeredTimes(alertEntity.getTriggeredTimes() + 1);
-        alertsRepository.save(alertEntity);
-        triggeredAlertsRepository.save(triggeredAlertEntity);
+        List<TriggeredAlertEntity> triggeredAlerts = new ArrayList<>();
+        Map<UUID, Integer> triggersByAlert = new HashMap<>();
+        for (DemandValueChange change : changes) {
+            for (AlertRule rule : rules.rulesFor(change.objectId(), isMaterialDemandChange)) {
+                if (rule.isTriggeredBy(change)) {
+                    triggeredAlerts.add(newTriggeredAlert(rule, created));
+                    triggersByAlert.merge(rule.alertId(), 1, Integer::sum);
+                }
+            }
+        }
+
+        triggeredAlertsRepository.insertAll(triggeredAlerts);
+        alertsRepository.incrementTriggeredTimes(triggersByAlert);
     }
 
-    private static boolean isGlobalAlert(boolean isMaterialDemandChange, AlertEntity alertEntity) {
-        return (
-            alertEntity.getMonitoredObjects().equals(AlertsMonitoredObjects.ALL_DEMANDS) ||
-				(alertEntity.getMonitoredObjects().equals(AlertsMonitoredObjects.ALL_CAPACITIES) &&
-					!isMaterialDemandChange) ||
-            alertEntity.getMonitoredObjects().equals(AlertsMonitoredObjects.ALL_OBJECTS)
-        );
+    private static TriggeredAlertEntity newTriggeredAlert(AlertRule rule, String created) {
+        TriggeredAlertEntity triggeredAlertEntity = new TriggeredAlertEntity();
+        triggeredAlertEntity.setId(UUID.randomUUID());
+        triggeredAlertEntity.setAlertID(rule.alertId());
+        triggeredAlertEntity.setAlertName(rule.alertName());
+        triggeredAlertEntity.setType(rule.type());
+        triggeredAlertEntity.setUserID(rule.userID());
+        triggeredAlertEntity.setMonitoredObjects(rule.monitoredObjects());
+        triggeredAlertEntity.setThreshold(rule.threshold());
+        triggeredAlertEntity.setCreated(created);
+        triggeredAlertEntity.setDescription(rule.description());
+        return triggeredAlertEntity;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AlertResponse> getAlerts(String userID) {
-        List<AlertEntity> alerts = alertsRepository.findAll();
-
-        getAlertByUserId(userID, alerts);
-        return alerts.stream().map(this::convertAlertsResponseDto).toList();
+        return alertsRepository
+            .findAllWithDedicatedAlertsByUserID(UUID.fromString(userID))
+            .stream()
+            .map(this::convertAlertsResponseDto)
+            .toList();
     }
 
-    private static void getTriggeredAlertByUserId(String userID, List<TriggeredAlertEntity> alerts) {
-        alerts
+    @Override
+    public List<TriggeredAlertResponse> getTriggeredAlerts(String userID) {
+        return triggeredAlertsRepository
+            .findAllByUserIDOrderByCreatedDesc(UUID.fromString(userID))
             .stream()
-			.filter(alertEntity -> {
-				if (alertEntity.getUserID().toString().equals(userID)) {
-					alerts.add(alertEntity);
-				}
-				return false;
-			});
+            .map(this::convertTriggeredAlertsResponseDto)
+            .toList();
     }
 
-    private static void getAlertByUserId(String userID, List<AlertEntity> alerts) {
-        alerts
-            .stream()
-			.filter(alertEntity -> {
-				if (alertEntity.getUserID().toString().equals(userID)) {
-					alerts.add(alertEntity);
-				}
-				return false;
-			});
+    @Override
+    @Transactional(readOnly = true)
+    public AlertPageResponse getAlertsPage(String userID, String cursor, Integer size) {
+        int pageSize = validatePageSize(size);
+        List<AlertEntity> alerts = alertsRepository.findBy(
+            userPageSpecification(UUID.fromString(userID), CursorUtil.decode(cursor, 2)),
+            query -> query.sortBy(PAGE_SORT).limit(pageSize + 1).all()
+        );
+        boolean hasNext = alerts.size() > pageSize;
+        if (hasNext) {
+            alerts = alerts.subList(0, pageSize);
+        }
+        if (!alerts.isEmpty()) {
+            // initializes the dedicated alerts of the whole page in one query
+            alertsRepository.findAllWithDedicatedAlertsByIdIn(alerts.stream().map(AlertEntity::getId).toList());
+        }
+
+        AlertPageResponse response = new AlertPageResponse();
+        response.setAlerts(alerts.stream().map(this::convertAlertsResponseDto).toList());
+        if (hasNext) {
+            AlertEntity last = alerts.get(alerts.size() - 1);
+            response.setNextCursor(CursorUtil.encode(last.getCreated(), last.getId()));
+        }
+        return response;
     }
 
     @Override
-    public List<TriggeredAlertResponse> getTriggeredAlerts(String userID) {
-        List<TriggeredAlertEntity> alerts = triggeredAlertsRepository.findAll();
-        getTriggeredAlertByUserId(userID, alerts);
-        return alerts.stream().map(this::convertTriggeredAlertsResponseDto).toList();
+    @Transactional(readOnly = true)
+    public TriggeredAlertPageResponse getTriggeredAlertsPage(String userID, String cursor, Integer size) {
+        int pageSize = validatePageSize(size);
+        List<TriggeredAlertEntity> triggeredAlerts = triggeredAlertsRepository.findBy(
+            userPageSpecification(UUID.fromString(userID), CursorUtil.decode(cursor, 2)),
+            query -> query.sortBy(PAGE_SORT).limit(pageSize + 1).all()
+        );
+        boolean hasNext = triggeredAlerts.size() > pageSize;
+        if (hasNext) {
+            triggeredAlerts = triggeredAlerts.subList(0, pageSize);
+        }
+
+        TriggeredAlertPageResponse response = new TriggeredAlertPageResponse();
+        response.setTriggeredAlerts(triggeredAlerts.stream().map(this::convertTriggeredAlertsResponseDto).toList());
+        if (hasNext) {
+            TriggeredAlertEntity last = triggeredAlerts.get(triggeredAlerts.size() - 1);
+            response.setNextCursor(CursorUtil.encode(last.getCreated(), last.getId()));
+        }
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public int rollupTriggeredAlertsBefore(LocalDateTime cutoff) {
+        return triggeredAlertsRepository.rollupCreatedBefore(Timestamp.valueOf(cutoff).toString());
+    }
+
+    private static int validatePageSize(Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("1", "10");
+        }
+        return pageSize;
+    }
+
+    /**
+     * Alerts of the user after the cursor, ordered by the creation timestamp string and id.
+     */
+    private static <T> Specification<T> userPageSpecification(UUID userID, String[] cursor) {
+        return (root, query, cb) -> {
+            Predicate ofUser = cb.equal(root.get("userID"), userID);
+            if (cursor == null) {
+                return ofUser;
+            }
+            UUID lastId;
+            try {
+                lastId = UUID.fromString(cursor[1]);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("1", "10");
+            }
+            return cb.and(
+                ofUser,
+                cb.or(
+                    cb.lessThan(root.get("created"), cursor[0]),
+                    cb.and(cb.equal(root.get("created"), cursor[0]), cb.lessThan(root.get("id"), lastId))
+                )
+            );
+        };
     }
 
     @Override
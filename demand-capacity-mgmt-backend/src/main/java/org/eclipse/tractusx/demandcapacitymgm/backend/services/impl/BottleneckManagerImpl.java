@@ -26,10 +26,12 @@ import eclipse.tractusx.demandcapacitymgm.specification.model.YearReportResponse
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.BottleneckManager;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.YearReportCacheService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.BottleneckDetectorUtil;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
@@ -37,6 +39,7 @@ import java.time.LocalDate;
 public class BottleneckManagerImpl implements BottleneckManager {
 
     private final BottleneckDetectorUtil bottleneckDetectorUtil;
+    private final YearReportCacheService yearReportCacheService;
 
     @Override
     public void calculateTodos(String userID) {
@@ -52,13 +55,21 @@ public class BottleneckManagerImpl implements BottleneckManager {
         boolean ruled,
         int percentage
     ) {
-        return bottleneckDetectorUtil.generateYearReport(
-            userID,
-            capacityGroupID,
+        return yearReportCacheService.get(
+            UUID.fromString(capacityGroupID),
             startDate,
             endDate,
             ruled,
-            percentage
+            percentage,
+            () ->
+                bottleneckDetectorUtil.generateYearReport(
+                    userID,
+                    capacityGroupID,
+                    startDate,
+                    endDate,
+                    ruled,
+                    percentage
+                )
         );
     }
 
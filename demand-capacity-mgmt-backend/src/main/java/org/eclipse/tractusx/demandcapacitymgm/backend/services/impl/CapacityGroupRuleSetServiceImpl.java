@@ -29,8 +29,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CapacityGroupRuleSetEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CapacityGroupRuleSetRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.CapacityGroupRuleSetService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.YearReportCacheService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,6 +42,7 @@ import java.util.UUID;
 public class CapacityGroupRuleSetServiceImpl implements CapacityGroupRuleSetService {
 
     private final CapacityGroupRuleSetRepository repository;
+    private final YearReportCacheService yearReportCacheService;
 
     @Override
     public CGRulesetResponse getCapacityGroupRuleSets(String cgID) {
@@ -75,6 +78,7 @@ public class CapacityGroupRuleSetServiceImpl implements CapacityGroupRuleSetServ
             response.setCgID(savedEntity.getCgID().toString());
             response.setPercentage(savedEntity.getRuled_percentage());
         }
+        yearReportCacheService.invalidate(List.of(cgUUID));
 
         return response;
     }
@@ -32,6 +32,7 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundException;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.*;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.*;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
 import org.springframework.stereotype.Service;
 
@@ -42,7 +43,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 @RequiredArgsConstructor
 @Service
@@ -58,10 +58,11 @@ public class CapacityGroupServiceImpl implements CapacityGroupService {
     private final StatusesService statusesService;
     private final LoggingHistoryService loggingHistoryService;
     private final FavoriteService favoriteService;
-    private final BottleneckManagerImpl statusManager;
+    private final StatusRecalculationService statusRecalculationService;
+    private final WeekDemandAggregateService weekDemandAggregateService;
 
     private final CapacityGroupRuleSetRepository ruleSetRepository;
-    private final UserRepository userRepository;
+    private final RequestContext requestContext;
 
     @Override
     public CapacityGroupResponse createCapacityGroup(CapacityGroupRequest capacityGroupRequest, String userID) {
@@ -85,31 +86,24 @@ public class CapacityGroupServiceImpl implements CapacityGroupService {
                 matchedMaterialDemands.addAll(materialDemandEntity.getDemandSeries());
             }
             linkedCapacityGroupMaterialDemandRepository.save(entity);
-            statusManager.calculateBottleneck(userID, true);
             capacityGroupEntity.setLinkStatus(EventType.GENERAL_EVENT);
             capacityGroupRepository.save(capacityGroupEntity);
         }
-        statusManager.calculateTodos(userID);
+        weekDemandAggregateService.refreshCapacityGroups(List.of(capacityGroupEntity.getId()));
+        statusRecalculationService.markDirty(userID);
         return convertCapacityGroupDto(capacityGroupEntity);
     }
 
     private void postLogs(String capacityGroupId, String userID) {
-        AtomicBoolean isFavorited = new AtomicBoolean(false);
-        FavoriteResponse favoriteResponse = favoriteService.getAllFavorites(userID);
-        for (SingleCapacityGroupFavoriteResponse singleCapacityGroupFavoriteResponse : favoriteResponse.getCapacityGroups()) {
-            if (singleCapacityGroupFavoriteResponse.getId().equals(capacityGroupId)) {
-                isFavorited.set(true);
-                break;
-            }
-        }
+        boolean isFavorited = favoriteService.isFavorite(userID, UUID.fromString(capacityGroupId));
         LoggingHistoryRequest loggingHistoryRequest = new LoggingHistoryRequest();
         loggingHistoryRequest.setObjectType(EventObjectType.CAPACITY_GROUP.name());
         loggingHistoryRequest.setMaterialDemandId("");
         loggingHistoryRequest.setCapacityGroupId(capacityGroupId);
         loggingHistoryRequest.setEventDescription("Capacity Group created");
-        loggingHistoryRequest.setIsFavorited(isFavorited.get());
+        loggingHistoryRequest.setIsFavorited(isFavorited);
         loggingHistoryRequest.setEventType(EventType.GENERAL_EVENT.toString());
-        loggingHistoryService.createLog(loggingHistoryRequest);
+        loggingHistoryService.postLog(loggingHistoryRequest);
     }
 
     @Override
@@ -164,8 +158,11 @@ public class CapacityGroupServiceImpl implements CapacityGroupService {
                 materialDemandRepository.save(demandEntity);
             }
         }
-        statusManager.calculateBottleneck(userID, true);
-        statusManager.calculateTodos(userID);
+        optionalCapacityGroupEntity.ifPresent(
+            capacityGroupEntity ->
+                weekDemandAggregateService.refreshCapacityGroups(List.of(capacityGroupEntity.getId()))
+        );
+        statusRecalculationService.markDirty(userID);
     }
 
     private CapacityGroupEntity enrichCapacityGroup(CapacityGroupRequest request) {
@@ -236,7 +233,7 @@ public class CapacityGroupServiceImpl implements CapacityGroupService {
             );
             return convertCapacityGroupEntity(capacityGroupEntityList);
         } else if (role.equals(Role.CUSTOMER)) {
-            String companyID = String.valueOf(userRepository.findById(UUID.fromString(userID)).get().getCompanyID());
+            String companyID = String.valueOf(requestContext.findUser(UUID.fromString(userID)).get().getCompanyID());
             List<CapacityGroupEntity> capacityGroupEntityList = capacityGroupRepository.findByCustomer_Id(
                 UUID.fromString(companyID)
             );
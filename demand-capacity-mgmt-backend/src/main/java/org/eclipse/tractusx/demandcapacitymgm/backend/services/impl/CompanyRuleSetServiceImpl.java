@@ -27,8 +27,10 @@ import eclipse.tractusx.demandcapacitymgm.specification.model.CDRulesetResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CompanyRuleSetEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CapacityGroupRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CompanyRuleSetRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.CompanyRuleSetService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.YearReportCacheService;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -40,6 +42,8 @@ import java.util.UUID;
 public class CompanyRuleSetServiceImpl implements CompanyRuleSetService {
 
     private final CompanyRuleSetRepository repository;
+    private final CapacityGroupRepository capacityGroupRepository;
+    private final YearReportCacheService yearReportCacheService;
 
     @Override
     public CDRulesetResponse getCompanyRuleSets(String companyID) {
@@ -76,6 +80,7 @@ public class CompanyRuleSetServiceImpl implements CompanyRuleSetService {
             response.setCompanyID(savedEntity.getCompanyID().toString());
             response.setPercentage(savedEntity.getRuled_percentage());
         }
+        yearReportCacheService.invalidate(capacityGroupRepository.findIdsByCompanyID(cdUUID));
 
         return response;
     }
@@ -33,6 +33,8 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundEx
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CompanyRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.CompanyService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ReferenceDataCacheService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -47,6 +49,8 @@ public class CompanyServiceImpl implements CompanyService {
 
     private final CompanyRepository companyRepository;
     private final LoggingHistoryService loggingHistoryService;
+    private final RequestContext requestContext;
+    private final ReferenceDataCacheService referenceDataCacheService;
 
     @Override
     public CompanyDto createCompany(CompanyDto companyDto) {
@@ -60,6 +64,7 @@ public class CompanyServiceImpl implements CompanyService {
         entity.setNumber(companyDto.getNumber());
         entity.setZipCode(companyDto.getZipCode());
         companyRepository.save(entity);
+        referenceDataCacheService.evictCompany(entity.getId());
         postLogs(entity.getId().toString(), "post");
 
         return convertEntityToDto(entity);
@@ -76,15 +81,16 @@ public class CompanyServiceImpl implements CompanyService {
             loggingHistoryRequest.setEventDescription("Company Deleted - ID: " + companyId);
         }
 
-        loggingHistoryService.createLog(loggingHistoryRequest);
+        loggingHistoryService.postLog(loggingHistoryRequest);
     }
 
     @Override
     public CompanyEntity getCompanyById(UUID id) {
-        Optional<CompanyEntity> company = companyRepository.findById(id);
+        Optional<CompanyEntity> company = requestContext.findCompany(id);
         if (company.isEmpty()) {
             throw new NotFoundException("6", "40");
-        } else company.get().setCount(company.get().getCount() + 1);
+        }
+        referenceDataCacheService.recordCompanyUse(id);
         return company.get();
     }
 
@@ -95,6 +101,7 @@ public class CompanyServiceImpl implements CompanyService {
             throw new NotFoundException("", "");
         } else {
             companyRepository.delete(company.get());
+            referenceDataCacheService.evictCompany(id);
             postLogs(id.toString(), "delete");
         }
     }
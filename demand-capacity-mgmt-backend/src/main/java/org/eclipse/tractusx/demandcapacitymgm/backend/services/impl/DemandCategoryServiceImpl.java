@@ -29,6 +29,7 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandCategoryEnt
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundException;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.DemandCategoryRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.DemandCategoryService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -42,10 +43,11 @@ import java.util.stream.Collectors;
 public class DemandCategoryServiceImpl implements DemandCategoryService {
 
     private final DemandCategoryRepository demandCategoryRepository;
+    private final RequestContext requestContext;
 
     @Override
     public DemandCategoryEntity findById(UUID id) {
-        Optional<DemandCategoryEntity> demandCategory = demandCategoryRepository.findById(id);
+        Optional<DemandCategoryEntity> demandCategory = requestContext.findDemandCategory(id);
 
         if (demandCategory.isEmpty()) {
             throw new NotFoundException("8", "22");
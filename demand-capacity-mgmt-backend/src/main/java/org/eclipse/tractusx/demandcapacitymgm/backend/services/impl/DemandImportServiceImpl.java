@@ -0,0 +1,361 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eclipse.tractusx.demandcapacitymgm.specification.model.DemandImportError;
+import eclipse.tractusx.demandcapacitymgm.specification.model.DemandImportResponse;
+import eclipse.tractusx.demandcapacitymgm.specification.model.LoggingHistoryRequest;
+import eclipse.tractusx.demandcapacitymgm.specification.model.MaterialDemandRequest;
+import eclipse.tractusx.demandcapacitymgm.specification.model.MaterialDemandSeries;
+import eclipse.tractusx.demandcapacitymgm.specification.model.MaterialDemandSeriesValue;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.DemandImportProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CompanyEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandCategoryEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandSeries;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandSeriesValues;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.MaterialDemandEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UnitMeasureEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CompanyRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.DemandCategoryRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.MaterialDemandRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.UnitMeasureRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.DemandImportService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.StatusRecalculationService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.DataConverterUtil;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class DemandImportServiceImpl implements DemandImportService {
+
+    private final ObjectMapper objectMapper;
+    private final MaterialDemandRepository materialDemandRepository;
+    private final CompanyRepository companyRepository;
+    private final UnitMeasureRepository unitMeasureRepository;
+    private final DemandCategoryRepository demandCategoryRepository;
+    private final LoggingHistoryService loggingHistoryService;
+    private final StatusRecalculationService statusRecalculationService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public DemandImportServiceImpl(
+        ObjectMapper objectMapper,
+        MaterialDemandRepository materialDemandRepository,
+        CompanyRepository companyRepository,
+        UnitMeasureRepository unitMeasureRepository,
+        DemandCategoryRepository demandCategoryRepository,
+        LoggingHistoryService loggingHistoryService,
+        StatusRecalculationService statusRecalculationService,
+        PlatformTransactionManager transactionManager,
+        DemandImportProperties properties
+    ) {
+        this.objectMapper = objectMapper;
+        this.materialDemandRepository = materialDemandRepository;
+        this.companyRepository = companyRepository;
+        this.unitMeasureRepository = unitMeasureRepository;
+        this.demandCategoryRepository = demandCategoryRepository;
+        this.loggingHistoryService = loggingHistoryService;
+        this.statusRecalculationService = statusRecalculationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(properties.chunkSize(), 1);
+    }
+
+    @Override
+    public DemandImportResponse importDemands(InputStream body, String userID) {
+        ReferenceData referenceData = new ReferenceData();
+        List<DemandImportError> errors = new ArrayList<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        int row = 0;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            boolean wrapped = token == JsonToken.START_ARRAY;
+            if (wrapped) {
+                token = parser.nextToken();
+            }
+            while (token != null && !(wrapped && token == JsonToken.END_ARRAY)) {
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    chunk.add(new ImportRow(row, objectMapper.treeToValue(node, MaterialDemandRequest.class)));
+                } catch (JsonProcessingException e) {
+                    errors.add(error(row, "1", "10"));
+                }
+                row++;
+                if (chunk.size() >= chunkSize) {
+                    imported += importChunk(chunk, referenceData, errors);
+                    chunk.clear();
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            // Malformed JSON cannot be resynchronized, the rows after it are not read
+            errors.add(error(row, "1", "10"));
+        } catch (IOException e) {
+            // The upload broke off, earlier chunks are committed and the rows read so far are still imported
+            log.warn("Demand import stream failed after {} rows", row, e);
+            errors.add(error(row, "1", "10"));
+        }
+        imported += importChunk(chunk, referenceData, errors);
+
+        if (imported > 0) {
+            postLog(imported);
+            statusRecalculationService.markDirty(userID);
+        }
+
+        DemandImportResponse response = new DemandImportResponse();
+        response.setImportedCount(imported);
+        response.setFailedCount(errors.size());
+        response.setErrors(errors);
+        return response;
+    }
+
+    private int importChunk(List<ImportRow> chunk, ReferenceData referenceData, List<DemandImportError> errors) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        referenceData.loadCompanies(chunk);
+
+        List<MaterialDemandEntity> demands = new ArrayList<>();
+        List<Integer> rows = new ArrayList<>();
+        for (ImportRow importRow : chunk) {
+            try {
+                demands.add(convert(importRow.request(), referenceData));
+                rows.add(importRow.row());
+            } catch (BadRequestException e) {
+                errors.add(error(importRow.row(), e.getCode(), e.lastDigits()));
+            }
+        }
+        if (demands.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> materialDemandRepository.insertAll(demands));
+            return demands.size();
+        } catch (DataAccessException e) {
+            log.warn("Could not import a chunk of {} material demands", demands.size(), e);
+            rows.forEach(row -> errors.add(error(row, "0", "00")));
+            return 0;
+        }
+    }
+
+    /**
+     * Applies the checks of a single demand creation, looking everything up in the preloaded reference data.
+     */
+    private MaterialDemandEntity convert(MaterialDemandRequest request, ReferenceData referenceData) {
+        CompanyEntity customer = referenceData.company(request.getCustomerId());
+        if (customer == null) {
+            throw new BadRequestException("2", "13");
+        }
+        CompanyEntity supplier = referenceData.company(request.getSupplierId());
+        if (supplier == null) {
+            throw new BadRequestException("2", "14");
+        }
+        UnitMeasureEntity unitMeasure = UUIDUtil.checkValidUUID(request.getUnitMeasureId())
+            ? referenceData.unitMeasures.get(UUID.fromString(request.getUnitMeasureId()))
+            : null;
+        if (unitMeasure == null) {
+            throw new BadRequestException("7", "23");
+        }
+
+        List<DemandSeries> demandSeries = new ArrayList<>();
+        if (request.getMaterialDemandSeries() != null) {
+            for (MaterialDemandSeries series : request.getMaterialDemandSeries()) {
+                demandSeries.add(convertSeries(series, customer, referenceData));
+            }
+        }
+
+        return MaterialDemandEntity
+            .builder()
+            .id(UUID.randomUUID())
+            .materialDescriptionCustomer(request.getMaterialDescriptionCustomer())
+            .materialNumberCustomer(request.getMaterialNumberCustomer())
+            .materialNumberSupplier(request.getMaterialNumberSupplier())
+            .customerId(customer)
+            .supplierId(supplier)
+            .unitMeasure(unitMeasure)
+            .demandSeries(demandSeries)
+            .linkStatus(EventType.UN_LINKED)
+            .changedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private DemandSeries convertSeries(
+        MaterialDemandSeries series,
+        CompanyEntity customer,
+        ReferenceData referenceData
+    ) {
+        if (!UUIDUtil.checkValidUUID(series.getCustomerLocationId())) {
+            throw new BadRequestException("2", "13");
+        }
+        DemandCategoryEntity demandCategory = UUIDUtil.checkValidUUID(series.getDemandCategoryId())
+            ? referenceData.demandCategories.get(UUID.fromString(series.getDemandCategoryId()))
+            : null;
+        if (demandCategory == null) {
+            throw new BadRequestException("8", "22");
+        }
+
+        List<String> expectedSupplierLocations = series.getExpectedSupplierLocationId() == null
+            ? List.of()
+            : series.getExpectedSupplierLocationId();
+        for (String location : expectedSupplierLocations) {
+            if (referenceData.company(location) == null) {
+                throw new BadRequestException("1", "12");
+            }
+        }
+
+        List<MaterialDemandSeriesValue> values = series.getDemandSeriesValues() == null
+            ? List.of()
+            : series.getDemandSeriesValues();
+        List<LocalDateTime> weeks = new ArrayList<>();
+        List<DemandSeriesValues> demandSeriesValues = new ArrayList<>();
+        for (MaterialDemandSeriesValue value : values) {
+            if (value.getDemand() == null) {
+                throw new BadRequestException("1", "11");
+            }
+            LocalDate calendarWeek;
+            try {
+                calendarWeek = LocalDate.parse(value.getCalendarWeek());
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new BadRequestException("1", "11");
+            }
+            weeks.add(DataConverterUtil.convertFromString(value.getCalendarWeek()));
+            demandSeriesValues.add(
+                DemandSeriesValues
+                    .builder()
+                    .id(UUID.randomUUID())
+                    .calendarWeek(calendarWeek)
+                    .demand(value.getDemand().doubleValue())
+                    .build()
+            );
+        }
+        if (!DataConverterUtil.checkListAllMonday(weeks) || !DataConverterUtil.checkDatesSequence(weeks)) {
+            throw new BadRequestException("1", "11");
+        }
+
+        return DemandSeries
+            .builder()
+            .id(UUID.randomUUID())
+            .customerLocation(customer)
+            .expectedSupplierLocation(expectedSupplierLocations)
+            .demandCategory(demandCategory)
+            .demandSeriesValues(demandSeriesValues)
+            .build();
+    }
+
+    private void postLog(int imported) {
+        LoggingHistoryRequest loggingHistoryRequest = new LoggingHistoryRequest();
+        loggingHistoryRequest.setObjectType(EventObjectType.MATERIAL_DEMAND.name());
+        loggingHistoryRequest.setMaterialDemandId("");
+        loggingHistoryRequest.setIsFavorited(false);
+        loggingHistoryRequest.setEventDescription(imported + " Material Demands imported");
+        loggingHistoryRequest.setEventType(EventType.GENERAL_EVENT.toString());
+        loggingHistoryService.postLog(loggingHistoryRequest);
+    }
+
+    private static DemandImportError error(int row, String code, String lastDigits) {
+        DemandImportError error = new DemandImportError();
+        error.setRow(row);
+        error.setCode(code);
+        error.setLastDigits(lastDigits);
+        return error;
+    }
+
+    private record ImportRow(int row, MaterialDemandRequest request) {}
+
+    /**
+     * Reference data of one import. Units and categories are loaded once, companies once per chunk for the ids
+     * the chunk refers to.
+     */
+    private class ReferenceData {
+
+        private final Map<UUID, UnitMeasureEntity> unitMeasures = new HashMap<>();
+        private final Map<UUID, DemandCategoryEntity> demandCategories = new HashMap<>();
+        private final Map<UUID, CompanyEntity> companies = new HashMap<>();
+
+        ReferenceData() {
+            unitMeasureRepository.findAll().forEach(unit -> unitMeasures.put(unit.getId(), unit));
+            demandCategoryRepository.findAll().forEach(category -> demandCategories.put(category.getId(), category));
+        }
+
+        void loadCompanies(List<ImportRow> chunk) {
+            Set<UUID> missing = new HashSet<>();
+            for (ImportRow importRow : chunk) {
+                MaterialDemandRequest request = importRow.request();
+                addIfMissing(missing, request.getCustomerId());
+                addIfMissing(missing, request.getSupplierId());
+                if (request.getMaterialDemandSeries() == null) {
+                    continue;
+                }
+                for (MaterialDemandSeries series : request.getMaterialDemandSeries()) {
+                    if (series.getExpectedSupplierLocationId() != null) {
+                        series.getExpectedSupplierLocationId().forEach(id -> addIfMissing(missing, id));
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                companyRepository.findAllById(missing).forEach(company -> companies.put(company.getId(), company));
+            }
+        }
+
+        private void addIfMissing(Set<UUID> missing, String id) {
+            if (UUIDUtil.checkValidUUID(id)) {
+                UUID uuid = UUID.fromString(id);
+                if (!companies.containsKey(uuid)) {
+                    missing.add(uuid);
+                }
+            }
+        }
+
+        CompanyEntity company(String id) {
+            return UUIDUtil.checkValidUUID(id) ? companies.get(UUID.fromString(id)) : null;
+        }
+    }
+}
@@ -23,9 +23,11 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
 
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.*;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
@@ -33,26 +35,32 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.MaterialDem
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.DemandValueChange;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.*;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.*;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.CursorUtil;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.DataConverterUtil;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
-import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UserUtil;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class DemandServiceImpl implements DemandService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final CompanyService companyService;
-    private final UserRepository userRepository;
     private final UnityOfMeasureService unityOfMeasureService;
 
     private final MaterialDemandRepository materialDemandRepository;
@@ -64,12 +72,14 @@ public class DemandServiceImpl implements DemandService {
     private final LoggingHistoryService loggingHistoryService;
 
     private final DemandSeriesRepository demandSeriesRepository;
+    private final DemandSeriesValuesRepository demandSeriesValuesRepository;
 
     private final CapacityGroupRepository capacityGroupRepository;
     private final LinkedCapacityGroupMaterialDemandRepository linkedCapacityGroupMaterialDemandRepository;
-    private final HttpServletRequest request;
+    private final RequestContext requestContext;
     private final StatusesService statusesService;
-    private final BottleneckManagerImpl statusManager;
+    private final StatusRecalculationService statusRecalculationService;
+    private final WeekDemandAggregateService weekDemandAggregateService;
     private final AlertService alertService;
 
     @Override
@@ -79,32 +89,22 @@ public class DemandServiceImpl implements DemandService {
             materialDemandRequest,
             materialDemandRequest.getId()
         );
-        List<MaterialDemandEntity> oldMaterialDemands = getAllDemands();
-        oldMaterialDemands.add(materialDemandEntity);
         materialDemandEntity.setLinkStatus(EventType.UN_LINKED);
         materialDemandEntity = materialDemandRepository.save(materialDemandEntity);
         postLogs(materialDemandEntity.getId().toString(), "Material Demand created", EventType.GENERAL_EVENT, userID);
-        statusManager.calculateBottleneck(userID, true);
-        statusManager.calculateTodos(userID);
+        statusRecalculationService.markDirty(userID);
         return convertDemandResponseDto(materialDemandEntity);
     }
 
     private void postLogs(String materialDemandId, String eventDescription, EventType eventType, String userID) {
-        AtomicBoolean isFavorited = new AtomicBoolean(false);
-        FavoriteResponse favoriteResponse = favoriteService.getAllFavorites(userID);
-        for (MaterialDemandFavoriteResponse materialDemandFavoriteResponse : favoriteResponse.getMaterialDemands()) {
-            if (materialDemandFavoriteResponse.getId().equals(materialDemandId)) {
-                isFavorited.set(true);
-                break;
-            }
-        }
+        boolean isFavorited = favoriteService.isFavorite(userID, UUID.fromString(materialDemandId));
         LoggingHistoryRequest loggingHistoryRequest = new LoggingHistoryRequest();
         loggingHistoryRequest.setObjectType(EventObjectType.MATERIAL_DEMAND.name());
         loggingHistoryRequest.setMaterialDemandId(materialDemandId);
-        loggingHistoryRequest.setIsFavorited(isFavorited.get());
+        loggingHistoryRequest.setIsFavorited(isFavorited);
         loggingHistoryRequest.setEventDescription(eventDescription);
         loggingHistoryRequest.setEventType(eventType.toString());
-        loggingHistoryService.createLog(loggingHistoryRequest);
+        loggingHistoryService.postLog(loggingHistoryRequest);
     }
 
     @Override
@@ -114,6 +114,190 @@ public class DemandServiceImpl implements DemandService {
         return demandEntityList.stream().map(this::convertDemandResponseDto).toList();
     }
 
+    @Override
+    public MaterialDemandPageResponse getDemandsPage(
+        String cursor,
+        Integer size,
+        String customer,
+        String supplier,
+        String linkStatus,
+        String materialNumber,
+        String userID
+    ) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("1", "10");
+        }
+
+        Specification<MaterialDemandEntity> specification = demandPageSpecification(
+            decodeCursor(cursor),
+            parseUUID(customer),
+            parseUUID(supplier),
+            parseLinkStatus(linkStatus),
+            materialNumber
+        );
+        // One extra row tells whether another page follows
+        List<MaterialDemandEntity> demands = materialDemandRepository.findBy(
+            specification,
+            query ->
+                query
+                    .sortBy(Sort.by(Sort.Direction.DESC, "changedAt").and(Sort.by(Sort.Direction.DESC, "id")))
+                    .limit(pageSize + 1)
+                    .all()
+        );
+        boolean hasNext = demands.size() > pageSize;
+        if (hasNext) {
+            demands = demands.subList(0, pageSize);
+        }
+
+        MaterialDemandPageResponse response = new MaterialDemandPageResponse();
+        response.setDemands(convertDemandPage(demands, userID));
+        if (hasNext) {
+            MaterialDemandEntity last = demands.get(demands.size() - 1);
+            response.setNextCursor(CursorUtil.encode(last.getChangedAt(), last.getId()));
+        }
+        return response;
+    }
+
+    private Specification<MaterialDemandEntity> demandPageSpecification(
+        Pair<LocalDateTime, UUID> cursor,
+        UUID customer,
+        UUID supplier,
+        EventType linkStatus,
+        String materialNumber
+    ) {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class) {
+                root.fetch("customerId", JoinType.LEFT);
+                root.fetch("supplierId", JoinType.LEFT);
+                root.fetch("unitMeasure", JoinType.LEFT);
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            if (cursor != null) {
+                predicates.add(
+                    cb.or(
+                        cb.lessThan(root.get("changedAt"), cursor.getKey()),
+                        cb.and(
+                            cb.equal(root.get("changedAt"), cursor.getKey()),
+                            cb.lessThan(root.get("id"), cursor.getValue())
+                        )
+                    )
+                );
+            }
+            if (customer != null) {
+                predicates.add(cb.equal(root.get("customerId").get("id"), customer));
+            }
+            if (supplier != null) {
+                predicates.add(cb.equal(root.get("supplierId").get("id"), supplier));
+            }
+            if (linkStatus != null) {
+                // link_status holds the EventType ordinal as text
+                predicates.add(
+                    cb.equal(root.get("linkStatus").as(String.class), String.valueOf(linkStatus.ordinal()))
+                );
+            }
+            if (materialNumber != null && !materialNumber.isBlank()) {
+                predicates.add(
+                    cb.or(
+                        cb.equal(root.get("materialNumberCustomer"), materialNumber),
+                        cb.equal(root.get("materialNumberSupplier"), materialNumber)
+                    )
+                );
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private List<MaterialDemandResponse> convertDemandPage(List<MaterialDemandEntity> demands, String userID) {
+        if (demands.isEmpty()) {
+            return List.of();
+        }
+        UserEntity user = requestContext.findUser(UUID.fromString(userID)).orElse(null);
+
+        Map<UUID, List<DemandSeries>> seriesByDemand = demandSeriesRepository
+            .findAllByMaterialDemandIds(demands.stream().map(MaterialDemandEntity::getId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(series -> series.getMaterialDemand().getId()));
+
+        List<DemandSeries> allSeries = seriesByDemand.values().stream().flatMap(List::stream).toList();
+        Map<UUID, List<DemandSeriesValues>> valuesBySeries = allSeries.isEmpty()
+            ? Map.of()
+            : demandSeriesValuesRepository
+                .findAllByDemandSeriesIds(allSeries.stream().map(DemandSeries::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(value -> value.getDemandSeries().getId()));
+
+        List<UUID> expectedSupplierLocationIds = allSeries
+            .stream()
+            .flatMap(series -> series.getExpectedSupplierLocation().stream())
+            .map(UUIDUtil::generateUUIDFromString)
+            .distinct()
+            .toList();
+        Map<UUID, CompanyEntity> companies = expectedSupplierLocationIds.isEmpty()
+            ? Map.of()
+            : companyService
+                .getCompanyIn(expectedSupplierLocationIds)
+                .stream()
+                .collect(Collectors.toMap(CompanyEntity::getId, company -> company));
+
+        return demands
+            .stream()
+            .map(demand -> {
+                List<MaterialDemandSeriesResponse> seriesResponses = seriesByDemand
+                    .getOrDefault(demand.getId(), List.of())
+                    .stream()
+                    .map(series -> {
+                        List<CompanyEntity> expectedSupplierLocation = series
+                            .getExpectedSupplierLocation()
+                            .stream()
+                            .map(id -> companies.get(UUIDUtil.generateUUIDFromString(id)))
+                            .filter(Objects::nonNull)
+                            .toList();
+                        return enrichMaterialDemandSeriesResponse(
+                            series,
+                            valuesBySeries.getOrDefault(series.getId(), List.of()),
+                            expectedSupplierLocation
+                        );
+                    })
+                    .toList();
+                return convertDemandResponseDto(demand, user, seriesResponses);
+            })
+            .toList();
+    }
+
+    private Pair<LocalDateTime, UUID> decodeCursor(String cursor) {
+        String[] values = CursorUtil.decode(cursor, 2);
+        if (values == null) {
+            return null;
+        }
+        try {
+            return Pair.of(LocalDateTime.parse(values[0]), UUID.fromString(values[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("1", "10");
+        }
+    }
+
+    private UUID parseUUID(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (!UUIDUtil.checkValidUUID(value)) {
+            throw new BadRequestException("1", "10");
+        }
+        return UUID.fromString(value);
+    }
+
+    private EventType parseLinkStatus(String linkStatus) {
+        if (linkStatus == null || linkStatus.isBlank()) {
+            return null;
+        }
+        try {
+            return EventType.valueOf(linkStatus);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("1", "10");
+        }
+    }
+
     @Override
     public MaterialDemandEntity getDemandEntityById(String demandId) {
         return null;
@@ -160,58 +344,45 @@ public class DemandServiceImpl implements DemandService {
         triggerDemandAlertsIfNeeded(demandId, userID, demand);
 
         demand = materialDemandRepository.save(demand);
+        weekDemandAggregateService.refreshForMaterialDemand(demand.getId());
         postLogs(demandId, "MATERIAL DEMAND Updated", EventType.GENERAL_EVENT, userID);
-        statusManager.calculateBottleneck(userID, true);
-        statusManager.calculateTodos(userID);
+        statusRecalculationService.markDirty(userID);
         return convertDemandResponseDto(demand);
     }
 
     private void triggerDemandAlertsIfNeeded(String demandId, String userID, MaterialDemandEntity demand) {
-        List<Double> oldDemandValues = new ArrayList<>(List.of());
-        List<Double> newDemandValues = new ArrayList<>(List.of());
-        Map<UUID, List<Double>> oldDemandValuesMap = new HashMap<>();
-        Map<UUID, List<Double>> newDemandValuesMap = new HashMap<>();
+        Map<UUID, List<Double>> oldDemandValuesMap = demandValuesByCategory(
+            materialDemandRepository.findById(UUID.fromString(demandId)).get()
+        );
+        Map<UUID, List<Double>> newDemandValuesMap = demandValuesByCategory(demand);
+
+        List<DemandValueChange> changes = new ArrayList<>();
+        UUID materialDemandId = UUID.fromString(demandId);
+        newDemandValuesMap.forEach((categoryId, newValues) -> {
+            List<Double> oldValues = oldDemandValuesMap.getOrDefault(categoryId, List.of());
+            int minSize = Math.min(newValues.size(), oldValues.size());
+            for (int i = 0; i < minSize; i++) {
+                Double oldValue = oldValues.get(i);
+                Double newValue = newValues.get(i);
+                if (oldValue != null && newValue != null && !oldValue.equals(newValue)) {
+                    changes.add(new DemandValueChange(materialDemandId, oldValue, newValue));
+                }
+            }
+        });
+        alertService.triggerDemandAlertsIfNeeded(userID, true, changes);
+    }
 
+    private static Map<UUID, List<Double>> demandValuesByCategory(MaterialDemandEntity demand) {
+        Map<UUID, List<Double>> valuesByCategory = new HashMap<>();
         demand
             .getDemandSeries()
-			.forEach(demandSeries -> {
-				demandSeries
-					.getDemandSeriesValues()
-					.forEach(demandSeriesValues -> {
-						newDemandValues.add(demandSeriesValues.getDemand());
-					});
-				newDemandValuesMap.put(demandSeries.getDemandCategory().getId(), newDemandValues.stream().toList());
-				newDemandValues.clear();
-			});
-
-        materialDemandRepository
-            .findById(UUID.fromString(demandId))
-            .get()
-            .getDemandSeries()
-			.forEach(demandSeries1 -> {
-				demandSeries1
-					.getDemandSeriesValues()
-					.forEach(demandSeriesValues -> {
-						oldDemandValues.add(demandSeriesValues.getDemand());
-					});
-				oldDemandValuesMap.put(demandSeries1.getDemandCategory().getId(), oldDemandValues.stream().toList());
-				oldDemandValues.clear();
-			});
-
-		newDemandValuesMap.forEach((newDemandKey, newValuesArray) -> {
-			int minSize = Math.min(newValuesArray.size(), oldDemandValuesMap.get(newDemandKey).size());
-			for (int i = 0; i < minSize; i++) {
-				if (!Objects.equals(oldDemandValuesMap.get(newDemandKey).get(i), newValuesArray.get(i))) {
-					alertService.triggerDemandAlertsIfNeeded(
-						userID,
-						true,
-						oldDemandValuesMap.get(newDemandKey).get(i),
-						newValuesArray.get(i),
-						demandId
-					);
-				}
-			}
-		});
+            .forEach(demandSeries ->
+                valuesByCategory.put(
+                    demandSeries.getDemandCategory().getId(),
+                    demandSeries.getDemandSeriesValues().stream().map(DemandSeriesValues::getDemand).toList()
+                )
+            );
+        return valuesByCategory;
     }
 
     private List<MaterialDemandEntity> getAllDemands() {
@@ -221,13 +392,12 @@ public class DemandServiceImpl implements DemandService {
     @Override
     public void deleteDemandById(String demandId, String userID) {
         MaterialDemandEntity demand = getDemandEntity(demandId);
-        List<MaterialDemandEntity> oldMaterialDemands = getAllDemands();
-        oldMaterialDemands.remove(demand);
         postLogs(demandId, "Material Demand deleted", EventType.UN_LINKED, userID);
+        Collection<UUID> linkedCapacityGroups = weekDemandAggregateService.findLinkedCapacityGroups(demand.getId());
         linkedCapacityGroupMaterialDemandRepository.deleteByMaterialDemandID(demand.getId());
         materialDemandRepository.delete(demand);
-        statusManager.calculateBottleneck(userID, true);
-        statusManager.calculateTodos(userID);
+        weekDemandAggregateService.refreshCapacityGroups(linkedCapacityGroups);
+        statusRecalculationService.markDirty(userID);
     }
 
     @Override
@@ -310,10 +480,8 @@ public class DemandServiceImpl implements DemandService {
             }
         }
         linkedCapacityGroupMaterialDemandRepository.deleteByCapacityGroupIDAndMaterialDemandID(cgID, mdID);
-        List<MaterialDemandEntity> oldMaterialDemands = getAllDemands();
-        oldMaterialDemands.removeIf(md -> md.getId().equals(mdID));
-        statusManager.calculateBottleneck(userID, true);
-        statusManager.calculateTodos(userID);
+        weekDemandAggregateService.refreshCapacityGroups(List.of(cgID));
+        statusRecalculationService.markDirty(userID);
     }
 
     private MaterialDemandEntity getDemandEntity(String demandId) {
@@ -329,12 +497,23 @@ public class DemandServiceImpl implements DemandService {
     }
 
     private MaterialDemandResponse convertDemandResponseDto(MaterialDemandEntity materialDemandEntity) {
+        UserEntity user = requestContext.getUser().orElse(null);
+
+        List<MaterialDemandSeriesResponse> materialDemandSeriesResponse = materialDemandEntity
+            .getDemandSeries()
+            .stream()
+            .map(this::enrichMaterialDemandSeriesResponse)
+            .toList();
+
+        return convertDemandResponseDto(materialDemandEntity, user, materialDemandSeriesResponse);
+    }
+
+    private MaterialDemandResponse convertDemandResponseDto(
+        MaterialDemandEntity materialDemandEntity,
+        UserEntity user,
+        List<MaterialDemandSeriesResponse> materialDemandSeriesResponse
+    ) {
         MaterialDemandResponse responseDto = new MaterialDemandResponse();
-        UserEntity user = null;
-        Optional<UserEntity> userEntity = userRepository.findById(UUID.fromString(UserUtil.getUserID(request)));
-        if (userEntity.isPresent()) {
-            user = userEntity.get();
-        }
 
         CompanyDto customer = null;
         if (materialDemandEntity.getCustomerId() != null) {
@@ -375,12 +554,6 @@ public class DemandServiceImpl implements DemandService {
 
         UnitMeasure unitMeasure = enrichUnitMeasure(materialDemandEntity.getUnitMeasure());
 
-        List<MaterialDemandSeriesResponse> materialDemandSeriesResponse = materialDemandEntity
-            .getDemandSeries()
-            .stream()
-            .map(this::enrichMaterialDemandSeriesResponse)
-            .toList();
-
         responseDto.setUnitMeasureId(unitMeasure);
 
         responseDto.setDemandSeries(materialDemandSeriesResponse);
@@ -520,6 +693,14 @@ public class DemandServiceImpl implements DemandService {
             .toList();
         List<CompanyEntity> companyEntities = companyService.getCompanyIn(uuidList);
 
+        return enrichMaterialDemandSeriesResponse(demandSeries, demandSeries.getDemandSeriesValues(), companyEntities);
+    }
+
+    private MaterialDemandSeriesResponse enrichMaterialDemandSeriesResponse(
+        DemandSeries demandSeries,
+        List<DemandSeriesValues> demandSeriesValues,
+        List<CompanyEntity> companyEntities
+    ) {
         List<CompanyDto> expectedSupplierLocation = companyEntities
             .stream()
             .map(companyService::convertEntityToDto)
@@ -531,8 +712,7 @@ public class DemandServiceImpl implements DemandService {
         materialDemandSeriesResponse.setCustomerLocation(customer);
         materialDemandSeriesResponse.setExpectedSupplierLocation(expectedSupplierLocation);
 
-        List<MaterialDemandSeriesValue> materialDemandSeriesValues = demandSeries
-            .getDemandSeriesValues()
+        List<MaterialDemandSeriesValue> materialDemandSeriesValues = demandSeriesValues
             .stream()
             .map(this::enrichMaterialDemandSeriesValue)
             .toList();
@@ -24,365 +24,381 @@ package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
 
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
 import io.github.cdimascio.dotenv.Dotenv;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.EdcClientProperties;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.EDCService;
-import org.springframework.http.HttpHeaders;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.EdcTokenService;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import javax.xml.catalog.Catalog;
+import java.net.ConnectException;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.List;
 
-@RequiredArgsConstructor
 @Service
 @Slf4j
 public class EDCServiceImpl implements EDCService {
 
     private static final String BASE_URL = getEnv("BASE_URL");
     private final String apiKey = getEnv("API_KEY");
-    private final WebClient webClient = WebClient.create(BASE_URL);
-    private String accessToken;
-    private Instant tokenExpiration;
 
-    private final String tokenEndpoint = getEnv("TOKEN_ENDPOINT");
-    private final String clientId = getEnv("CLIENT_ID");
-    private final String clientSecret = getEnv("CLIENT_SECRET");
-    private final String grantType = getEnv("GRANT_TYPE");
+    private final EdcClientProperties properties;
+    private final EdcTokenService edcTokenService;
+
+    // One client for all calls, so every call shares the pooled connections of edcClientHttpConnector
+    private final WebClient webClient;
+
+    public EDCServiceImpl(
+        ReactorClientHttpConnector edcClientHttpConnector,
+        EdcClientProperties properties,
+        EdcTokenService edcTokenService
+    ) {
+        this.properties = properties;
+        this.edcTokenService = edcTokenService;
+        this.webClient =
+            WebClient
+                .builder()
+                .clientConnector(edcClientHttpConnector)
+                .baseUrl(BASE_URL)
+                .defaultHeader("x-api-key", apiKey)
+                .build();
+    }
 
     private static String getEnv(String key) {
         Dotenv dotenv = Dotenv.configure().load();
         return dotenv.get(key);
     }
 
-    public Mono<String> getToken() {
-        if (accessToken != null && !isTokenExpired()) {
-            return Mono.just(accessToken);
-        } else {
-            return getAccessToken().map(AccessTokenResponse::getAccessToken);
-        }
-    }
-
     @Override
     public Mono<AccessTokenResponse> getAccessToken() {
-		WebClient client = WebClient.builder()
-            .baseUrl(tokenEndpoint)
-            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-            .build();
+        return edcTokenService.getAccessToken();
+    }
 
-        return client
-            .post()
-            .body(
-				BodyInserters.fromFormData("grant_type", grantType)
-                    .with("client_id", clientId)
-                    .with("client_secret", clientSecret)
-            )
-            .retrieve()
-            .bodyToMono(AccessTokenResponse.class)
-			.doOnSuccess(response -> {
-				accessToken = response.getAccessToken();
-				// Set token expiration time (assuming response provides expiresIn in seconds)
-				tokenExpiration = Instant.now().plusSeconds(response.getExpiresIn().longValue());
-			});
+    /**
+     * Applies the timeout to every attempt and retries connection failures and 5xx answers. Timeouts
+     * and rejections of the connection pool are not retried, a slow connector only gets slower when
+     * the same calls are sent again.
+     */
+    private <T> Mono<T> call(Mono<T> mono, Duration timeout) {
+        return mono.timeout(timeout).retryWhen(retry()).doOnError(this::logErrorDetails);
     }
 
-    private boolean isTokenExpired() {
-        return tokenExpiration != null && Instant.now().isAfter(tokenExpiration);
+    private <T> Flux<T> call(Flux<T> flux, Duration timeout) {
+        return flux.timeout(timeout).retryWhen(retry()).doOnError(this::logErrorDetails);
     }
 
-    private WebClient webClientCreation(String path) {
-        return WebClient.builder().baseUrl(BASE_URL + path).defaultHeader(HttpHeaders.CONTENT_TYPE).build();
+    private Retry retry() {
+        return Retry.fixedDelay(properties.retries(), properties.retryDelay()).filter(EDCServiceImpl::isRetryable);
     }
 
-    @Override
-    public Mono<IdResponse> createAsset(AssetEntryNewDto dto) {
-        return webClientCreation("/management/v2/assets")
-            .post()
-            .header("x-api-key", apiKey)
-            .bodyValue(dto)
-            .retrieve()
-            .bodyToMono(IdResponse.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException && error.getCause() instanceof ConnectException;
+    }
+
+    private void logErrorDetails(Throwable error) {
+        log.error("Error occurred while making the request: {}", error.getMessage());
     }
 
     @Override
-    public List<Asset> createAssetRequest(QuerySpec dto) {
-        return webClientCreation("/management/v2/assets/request")
-            .post()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToFlux(Asset.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .collectList()
-            .block(); // Blocking to get the List
+    public Mono<IdResponse> createAsset(AssetEntryNewDto dto) {
+        return call(
+            webClient.post().uri("/management/v2/assets").bodyValue(dto).retrieve().bodyToMono(IdResponse.class),
+            properties.writeTimeout()
+        );
     }
 
-    private void logErrorDetails(Throwable error) {
-        // Log error details
-        System.err.println("Error occurred while making the request: " + error.getMessage());
+    @Override
+    public Flux<Asset> createAssetRequest(QuerySpec dto) {
+        return call(
+            webClient.post().uri("/management/v2/assets/request").bodyValue(dto).retrieve().bodyToFlux(Asset.class),
+            properties.queryTimeout()
+        );
     }
 
     @Override
-    public Asset getAsset(String assetId) {
-        return webClientCreation("/management/v2/assets/" + assetId)
-            .get()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToMono(Asset.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .block(); // Blocking to get the List
+    public Mono<Asset> getAsset(String assetId) {
+        return call(
+            webClient.get().uri("/management/v2/assets/{id}", assetId).retrieve().bodyToMono(Asset.class),
+            properties.readTimeout()
+        );
     }
 
     @Override
-    public Void deleteAsset(String assetId) {
-        webClientCreation("/management/v2/assets/" + assetId)
-            .delete()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToMono(Asset.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .block();
-        return null;
+    public Mono<Void> deleteAsset(String assetId) {
+        return call(
+            webClient.delete().uri("/management/v2/assets/{id}", assetId).retrieve().bodyToMono(Void.class),
+            properties.writeTimeout()
+        );
     }
 
     @Override
     public Mono<IdResponse> createPolicy(PolicyDefinitionInput dto) {
-        return webClientCreation("/management/v2/policydefinitions")
-            .post()
-            .header("x-api-key", apiKey)
-            .bodyValue(dto)
-            .retrieve()
-            .bodyToMono(IdResponse.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/policydefinitions")
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(IdResponse.class),
+            properties.writeTimeout()
+        );
     }
 
     @Override
-    public List<PolicyDefinitionOutput> createPolicyRequest(QuerySpec dto) {
-        return webClientCreation("/management/v2/policydefinitions/request")
-            .post()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToFlux(PolicyDefinitionOutput.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .collectList()
-            .block();
+    public Flux<PolicyDefinitionOutput> createPolicyRequest(QuerySpec dto) {
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/policydefinitions/request")
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToFlux(PolicyDefinitionOutput.class),
+            properties.queryTimeout()
+        );
     }
 
     @Override
-    public PolicyDefinitionOutput getPolicy(String policyId) {
-        return webClientCreation("/management/v2/policydefinitions/" + policyId)
-            .get()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToMono(PolicyDefinitionOutput.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .block();
+    public Mono<PolicyDefinitionOutput> getPolicy(String policyId) {
+        return call(
+            webClient
+                .get()
+                .uri("/management/v2/policydefinitions/{id}", policyId)
+                .retrieve()
+                .bodyToMono(PolicyDefinitionOutput.class),
+            properties.readTimeout()
+        );
     }
 
     @Override
-    public Void deletePolicy(String policyId) {
-        webClientCreation("/management/v2/policydefinitions/" + policyId)
-            .delete()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToMono(PolicyDefinitionOutput.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .block();
-        return null;
+    public Mono<Void> deletePolicy(String policyId) {
+        return call(
+            webClient.delete().uri("/management/v2/policydefinitions/{id}", policyId).retrieve().bodyToMono(Void.class),
+            properties.writeTimeout()
+        );
     }
 
     @Override
     public Mono<IdResponse> createContractDef(ContractDefinitionInput dto) {
-        return webClientCreation("/management/v2/contractdefinitions")
-            .post()
-            .header("x-api-key", apiKey)
-            .bodyValue(dto)
-            .retrieve()
-            .bodyToMono(IdResponse.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/contractdefinitions")
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(IdResponse.class),
+            properties.writeTimeout()
+        );
     }
 
     @Override
-    public List<ContractDefinitionOutput> createContractDefRequest(QuerySpec dto) {
-        return webClientCreation("/management/v2/contractdefinitions/request")
-            .post()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToFlux(ContractDefinitionOutput.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .collectList()
-            .block();
+    public Flux<ContractDefinitionOutput> createContractDefRequest(QuerySpec dto) {
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/contractdefinitions/request")
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToFlux(ContractDefinitionOutput.class),
+            properties.queryTimeout()
+        );
     }
 
     @Override
-    public ContractDefinitionOutput getContractDef(String contractDefId) {
-        return webClientCreation("/management/v2/contractdefinitions/" + contractDefId)
-            .get()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToMono(ContractDefinitionOutput.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .block();
+    public Mono<ContractDefinitionOutput> getContractDef(String contractDefId) {
+        return call(
+            webClient
+                .get()
+                .uri("/management/v2/contractdefinitions/{id}", contractDefId)
+                .retrieve()
+                .bodyToMono(ContractDefinitionOutput.class),
+            properties.readTimeout()
+        );
     }
 
     @Override
-    public Void deleteContractDef(String contractDefId) {
-        webClientCreation("/management/v2/contractdefinitions/" + contractDefId)
-            .delete()
-            .header("x-api-key", apiKey)
-            .retrieve()
-            .bodyToMono(ContractDefinitionOutput.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)))
-            .doOnError(this::logErrorDetails)
-            .block();
-        return null;
+    public Mono<Void> deleteContractDef(String contractDefId) {
+        return call(
+            webClient
+                .delete()
+                .uri("/management/v2/contractdefinitions/{id}", contractDefId)
+                .retrieve()
+                .bodyToMono(Void.class),
+            properties.writeTimeout()
+        );
     }
 
     @Override
     public Mono<Catalog> createCatalogRequest(CatalogRequest dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/v2/catalog/request").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToMono(Catalog.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/catalog/request")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(Catalog.class),
+            properties.negotiationTimeout()
+        );
     }
 
     @Override
     public Mono<IdResponse> createContractNeg(ContractRequest dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/v2/contractnegotiations").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToMono(IdResponse.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/contractnegotiations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(IdResponse.class),
+            properties.negotiationTimeout()
+        );
     }
 
     @Override
     public Flux<ContractNegotiation> createContractNegRequest(QuerySpec dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/v2/contractnegotiations/request").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToFlux(ContractNegotiation.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/contractnegotiations/request")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToFlux(ContractNegotiation.class),
+            properties.queryTimeout()
+        );
     }
 
     @Override
     public Mono<IdResponse> createTransferProcess(TransferRequest dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/v2/transferprocesses").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToMono(IdResponse.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/transferprocesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(IdResponse.class),
+            properties.negotiationTimeout()
+        );
     }
 
     @Override
     public Flux<TransferProcess> createTransferProcessRequest(QuerySpec dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/v2/transferprocesses/request").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToFlux(TransferProcess.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/v2/transferprocesses/request")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToFlux(TransferProcess.class),
+            properties.queryTimeout()
+        );
     }
 
     @Override
     public Mono<TransferProcess> getTransferProcess(String transferProcessId) {
-        return webClient
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder.pathSegment("/management/v2/contractdefinitions/{id}", "{id}").build(transferProcessId)
-            )
-            .retrieve()
-            .toEntity(TransferProcess.class)
-            .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody()));
+        return call(
+            webClient
+                .get()
+                .uri("/management/v2/transferprocesses/{id}", transferProcessId)
+                .retrieve()
+                .bodyToMono(TransferProcess.class),
+            properties.readTimeout()
+        );
     }
 
     @Override
     public Mono<IdResponse> createEDR(NegotiateEdrRequest dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/edrs").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToMono(IdResponse.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/edrs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(IdResponse.class),
+            properties.negotiationTimeout()
+        );
     }
 
     @Override
     public Mono<DataAddress> getEDR(String edrId) {
-        return webClient
-            .get()
-            .uri(uriBuilder -> uriBuilder.pathSegment("/management/edrs", "{id}").build(edrId))
-            .retrieve()
-            .toEntity(DataAddress.class)
-            .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody()));
+        return call(
+            webClient.get().uri("/management/edrs/{id}", edrId).retrieve().bodyToMono(DataAddress.class),
+            properties.readTimeout()
+        );
     }
 
     @Override
     public Mono<Void> deleteEDR(String edrId) {
-        return webClient
-            .delete()
-            .uri(uriBuilder -> uriBuilder.pathSegment("/management/edrs", "{id}").build(edrId))
-            .retrieve()
-            .bodyToMono(Void.class);
+        return call(
+            webClient.delete().uri("/management/edrs/{id}", edrId).retrieve().bodyToMono(Void.class),
+            properties.writeTimeout()
+        );
     }
 
     @Override
     public Mono<AssetRequest> createAASRequest(AssetRequest dto) {
-        return webClient
-            .post()
-            .uri(uriBuilder -> uriBuilder.path("/management/aas/request").build())
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(BodyInserters.fromValue(dto))
-            .retrieve()
-            .bodyToMono(AssetRequest.class)
-            .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(3)));
+        return call(
+            webClient
+                .post()
+                .uri("/management/aas/request")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(AssetRequest.class),
+            properties.negotiationTimeout()
+        );
     }
 
     @Override
     public Mono<EndpointDataReferenceEntry> getEDRSByParameters(String agreementId, String assetId, String providerId) {
-        return webClient
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/management/edrs")
-                        .queryParam("agreementId", agreementId)
-                        .queryParam("assetId", assetId)
-                        .queryParam("providerId", providerId)
-                        .build()
-            )
-            .retrieve()
-            .bodyToMono(EndpointDataReferenceEntry.class);
+        return call(
+            webClient
+                .get()
+                .uri(
+                    uriBuilder ->
+                        uriBuilder
+                            .path("/management/edrs")
+                            .queryParam("agreementId", agreementId)
+                            .queryParam("assetId", assetId)
+                            .queryParam("providerId", providerId)
+                            .build()
+                )
+                .retrieve()
+                .bodyToMono(EndpointDataReferenceEntry.class),
+            properties.readTimeout()
+        );
+    }
+
+    @Override
+    public Flux<EndpointDataReferenceEntry> getEDRS(String assetId, String providerId) {
+        return call(
+            webClient
+                .get()
+                .uri(
+                    uriBuilder ->
+                        uriBuilder
+                            .path("/management/edrs")
+                            .queryParam("assetId", assetId)
+                            .queryParam("providerId", providerId)
+                            .build()
+                )
+                .retrieve()
+                .bodyToFlux(EndpointDataReferenceEntry.class),
+            properties.readTimeout()
+        );
     }
 }
@@ -0,0 +1,113 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import eclipse.tractusx.demandcapacitymgm.specification.model.DataAddress;
+import eclipse.tractusx.demandcapacitymgm.specification.model.EndpointDataReferenceEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.PartnerSyncProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.PartnerPayload;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.EDCService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerTransportService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Posts each payload to the data plane of the partner through an EDR negotiated for app.partner-sync.edc-asset-id.
+ * The EDR gives the endpoint and the authorization header; the EDR has to be negotiated beforehand.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.partner-sync", name = "transport", havingValue = "edc")
+public class EdcPartnerTransportServiceImpl implements PartnerTransportService {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String NEGOTIATED = "NEGOTIATED";
+
+    private final WebClient webClient;
+    private final EDCService edcService;
+    private final PartnerSyncProperties properties;
+
+    public EdcPartnerTransportServiceImpl(
+        ReactorClientHttpConnector edcClientHttpConnector,
+        EDCService edcService,
+        PartnerSyncProperties properties
+    ) {
+        this.webClient = WebClient.builder().clientConnector(edcClientHttpConnector).build();
+        this.edcService = edcService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void send(PartnerPayload payload) throws IOException {
+        DataAddress edr = findEdr(payload.partnerBpn());
+        if (edr == null || edr.getEndpoint() == null || edr.getAuthCode() == null) {
+            throw new IOException("No usable EDR is negotiated with partner " + payload.partnerBpn());
+        }
+
+        webClient
+            .post()
+            .uri(edr.getEndpoint() + "/" + payload.feed().name().toLowerCase().replace('_', '-'))
+            .contentType(NDJSON)
+            .header(edr.getAuthKey() == null ? HttpHeaders.AUTHORIZATION : edr.getAuthKey(), edr.getAuthCode())
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .header("Idempotency-Key", payload.idempotencyKey())
+            .header("Edc-Bpn", properties.ownBpn())
+            .bodyValue(payload.body())
+            .retrieve()
+            .toBodilessEntity()
+            .block(properties.timeout());
+        log.debug("Sent {} deltas to partner {}", payload.items(), payload.partnerBpn());
+    }
+
+    // The negotiated EDR of the partner that stays valid the longest
+    private DataAddress findEdr(String partnerBpn) {
+        long now = System.currentTimeMillis();
+        List<EndpointDataReferenceEntry> entries = edcService
+            .getEDRS(properties.edcAssetId(), partnerBpn)
+            .collectList()
+            .block(properties.timeout());
+        if (entries == null) {
+            return null;
+        }
+        return entries
+            .stream()
+            .filter(entry -> NEGOTIATED.equals(entry.getEdrState()) && entry.getTransferProcessId() != null)
+            .filter(entry -> entry.getExpirationDate() == null || entry.getExpirationDate() > now)
+            .max(
+                Comparator.comparing(
+                    EndpointDataReferenceEntry::getExpirationDate,
+                    Comparator.nullsLast(Comparator.naturalOrder())
+                )
+            )
+            .map(entry -> edcService.getEDR(entry.getTransferProcessId()).block(properties.timeout()))
+            .orElse(null);
+    }
+}
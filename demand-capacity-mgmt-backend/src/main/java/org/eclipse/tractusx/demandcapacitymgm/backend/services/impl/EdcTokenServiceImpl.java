@@ -0,0 +1,233 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import eclipse.tractusx.demandcapacitymgm.specification.model.AccessTokenResponse;
+import io.github.cdimascio.dotenv.Dotenv;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.EdcTokenProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.EdcTokenService;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the access token of the EDC token endpoint. Readers get the current token without locking.
+ * The token is refreshed ahead of its expiry, and concurrent callers that find it expired share one
+ * request to the token endpoint.
+ */
+@Service
+@Slf4j
+public class EdcTokenServiceImpl implements EdcTokenService {
+
+    private final String tokenEndpoint = getEnv("TOKEN_ENDPOINT");
+    private final String clientId = getEnv("CLIENT_ID");
+    private final String clientSecret = getEnv("CLIENT_SECRET");
+    private final String grantType = getEnv("GRANT_TYPE");
+
+    private final EdcTokenProperties properties;
+    private final WebClient webClient;
+
+    private final AtomicReference<CachedToken> current = new AtomicReference<>();
+    private final AtomicReference<Mono<CachedToken>> inFlight = new AtomicReference<>();
+    private final AtomicReference<Disposable> scheduledRefresh = new AtomicReference<>();
+
+    private final Timer refreshSucceeded;
+    private final Timer refreshFailed;
+    private final Counter refreshRetries;
+
+    public EdcTokenServiceImpl(
+        ReactorClientHttpConnector edcClientHttpConnector,
+        EdcTokenProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.webClient = WebClient.builder().clientConnector(edcClientHttpConnector).build();
+
+        this.refreshSucceeded = Timer.builder("edc.token.refresh").tag("result", "success").register(meterRegistry);
+        this.refreshFailed = Timer.builder("edc.token.refresh").tag("result", "failure").register(meterRegistry);
+        this.refreshRetries = Counter.builder("edc.token.refresh.retries").register(meterRegistry);
+        Gauge
+            .builder("edc.token.expires.in", current, EdcTokenServiceImpl::secondsUntilExpiry)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    private static String getEnv(String key) {
+        Dotenv dotenv = Dotenv.configure().load();
+        return dotenv.get(key);
+    }
+
+    @Override
+    public Mono<String> getToken() {
+        return getAccessToken().map(AccessTokenResponse::getAccessToken);
+    }
+
+    @Override
+    public Mono<AccessTokenResponse> getAccessToken() {
+        CachedToken token = current.get();
+        Instant now = Instant.now();
+        if (token != null && now.isBefore(token.expiresAt())) {
+            if (!now.isBefore(token.refreshAt())) {
+                // The scheduled refresh did not happen or failed, refresh while the token is still usable
+                refresh();
+            }
+            return Mono.just(token.response());
+        }
+        return refresh().map(CachedToken::response);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable scheduled = scheduledRefresh.getAndSet(null);
+        if (scheduled != null) {
+            scheduled.dispose();
+        }
+    }
+
+    /**
+     * Returns the running refresh or starts one. The refresh is subscribed here, so it completes and
+     * stores the token even when the callers that wait for it cancel.
+     */
+    private Mono<CachedToken> refresh() {
+        while (true) {
+            Mono<CachedToken> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            Mono<CachedToken> refresh = requestToken().doFinally(signal -> inFlight.set(null)).cache();
+            if (inFlight.compareAndSet(null, refresh)) {
+                refresh.subscribe(token -> {}, error -> {});
+                return refresh;
+            }
+        }
+    }
+
+    private Mono<CachedToken> requestToken() {
+        return Mono.defer(() -> {
+            // Taken before the request, so the time the request takes only shortens the lifetime
+            Instant requestedAt = Instant.now();
+            long start = System.nanoTime();
+            return webClient
+                .post()
+                .uri(URI.create(tokenEndpoint))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(
+                    BodyInserters
+                        .fromFormData("grant_type", grantType)
+                        .with("client_id", clientId)
+                        .with("client_secret", clientSecret)
+                )
+                .retrieve()
+                .bodyToMono(AccessTokenResponse.class)
+                .timeout(properties.timeout())
+                .retryWhen(
+                    Retry
+                        .backoff(properties.retries(), properties.minBackoff())
+                        .maxBackoff(properties.maxBackoff())
+                        .jitter(properties.jitter())
+                        .filter(EdcTokenServiceImpl::isRetryable)
+                        .doBeforeRetry(signal -> refreshRetries.increment())
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure())
+                )
+                .map(response -> toCachedToken(response, requestedAt))
+                .doOnNext(token -> {
+                    refreshSucceeded.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    current.set(token);
+                    scheduleRefresh(token);
+                })
+                .doOnError(error -> {
+                    refreshFailed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    log.warn("Refreshing the EDC access token failed: {}", error.getMessage());
+                });
+        });
+    }
+
+    private CachedToken toCachedToken(AccessTokenResponse response, Instant requestedAt) {
+        Duration lifetime = response.getExpiresIn() == null
+            ? Duration.ZERO
+            : Duration.ofSeconds(response.getExpiresIn().longValue()).minus(properties.clockSkew());
+        if (lifetime.isNegative()) {
+            lifetime = Duration.ZERO;
+        }
+        Duration refreshBefore = properties.refreshBefore();
+        if (refreshBefore.compareTo(lifetime.dividedBy(2)) > 0) {
+            refreshBefore = lifetime.dividedBy(2);
+        }
+        Instant expiresAt = requestedAt.plus(lifetime);
+        return new CachedToken(response, expiresAt, expiresAt.minus(refreshBefore));
+    }
+
+    private void scheduleRefresh(CachedToken token) {
+        Duration delay = Duration.between(Instant.now(), token.refreshAt());
+        Disposable next = null;
+        if (delay.isNegative() || delay.isZero()) {
+            // A token without a usable lifetime is requested again when it is needed, never in a loop
+            log.warn("EDC access token expires before it can be refreshed ahead of time");
+        } else {
+            next = Mono.delay(delay).then(Mono.defer(this::refresh)).subscribe(refreshed -> {}, error -> {});
+        }
+        Disposable previous = scheduledRefresh.getAndSet(next);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return (
+                responseException.getStatusCode().is5xxServerError() ||
+                responseException.getStatusCode().value() == 429
+            );
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private static double secondsUntilExpiry(AtomicReference<CachedToken> current) {
+        CachedToken token = current.get();
+        if (token == null) {
+            return 0;
+        }
+        return Math.max(Duration.between(Instant.now(), token.expiresAt()).toSeconds(), 0);
+    }
+
+    private record CachedToken(AccessTokenResponse response, Instant expiresAt, Instant refreshAt) {}
+}
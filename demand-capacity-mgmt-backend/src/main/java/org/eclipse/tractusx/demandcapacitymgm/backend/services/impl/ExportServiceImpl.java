@@ -0,0 +1,269 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UserEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFilter;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFormat;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ExportService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.ExportRowWriter;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    // Rows the PostgreSQL driver fetches per round trip. Inside a transaction it keeps a cursor open
+    // instead of reading the whole result.
+    private static final int FETCH_SIZE = 1000;
+
+    private static final List<String> DEMAND_COLUMNS = List.of(
+        "materialDemandId",
+        "materialNumberCustomer",
+        "materialNumberSupplier",
+        "materialDescriptionCustomer",
+        "customerId",
+        "supplierId",
+        "unitMeasureId",
+        "linkStatus",
+        "changedAt",
+        "demandSeriesId",
+        "demandCategoryId",
+        "customerLocationId",
+        "calendarWeek",
+        "demand"
+    );
+
+    private static final List<String> CAPACITY_COLUMNS = List.of(
+        "capacityGroupId",
+        "capacityGroupName",
+        "customerId",
+        "supplierId",
+        "linkStatus",
+        "calendarWeek",
+        "actualCapacity",
+        "maximumCapacity"
+    );
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RequestContext requestContext;
+
+    public ExportServiceImpl(DataSource dataSource, ObjectMapper objectMapper, RequestContext requestContext) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.objectMapper = objectMapper;
+        this.requestContext = requestContext;
+    }
+
+    @Override
+    public ExportFormat parseFormat(String format) {
+        if (format == null || format.isBlank()) {
+            return ExportFormat.NDJSON;
+        }
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("1", "10");
+        }
+    }
+
+    @Override
+    public ExportFilter parseFilter(String company, String from, String to, String linkStatus) {
+        try {
+            return new ExportFilter(
+                company == null || company.isBlank() ? null : UUID.fromString(company),
+                from == null || from.isBlank() ? null : LocalDate.parse(from),
+                to == null || to.isBlank() ? null : LocalDate.parse(to),
+                linkStatus == null || linkStatus.isBlank() ? null : EventType.valueOf(linkStatus)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("1", "10");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportDemands(ExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(
+            """
+            select md.id, md.material_number_customer, md.material_number_supplier, md.material_description_customer,
+                md.customer_id, md.supplier_id, md.unit_of_measure_id, md.link_status, md.changed_at,
+                ds.id as demand_series_id, ds.demand_category_code_id, ds.customer_location_id, v.calendar_week, v.demand
+            from material_demand md
+            join demand_series ds on ds.material_demand_id = md.id
+            join demand_series_values v on v.demand_series_id = ds.id
+            where true"""
+        );
+        List<Object> parameters = new ArrayList<>();
+        if (filter.company() != null) {
+            sql.append(" and (md.customer_id = ? or md.supplier_id = ?)");
+            parameters.add(filter.company());
+            parameters.add(filter.company());
+        }
+        if (filter.from() != null) {
+            sql.append(" and v.calendar_week >= ?");
+            parameters.add(Date.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" and v.calendar_week <= ?");
+            parameters.add(Date.valueOf(filter.to()));
+        }
+        if (filter.linkStatus() != null) {
+            // link_status holds the EventType ordinal as text
+            sql.append(" and md.link_status = ?");
+            parameters.add(String.valueOf(filter.linkStatus().ordinal()));
+        }
+        sql.append(" order by md.id, ds.id, v.calendar_week");
+
+        ExportRowWriter writer = new ExportRowWriter(format, DEMAND_COLUMNS, out, objectMapper);
+        jdbcTemplate.query(
+            sql.toString(),
+            rs -> {
+                Timestamp calendarWeek = rs.getTimestamp("calendar_week");
+                writer.writeRow(
+                    rs.getString("id"),
+                    rs.getString("material_number_customer"),
+                    rs.getString("material_number_supplier"),
+                    rs.getString("material_description_customer"),
+                    rs.getString("customer_id"),
+                    rs.getString("supplier_id"),
+                    rs.getString("unit_of_measure_id"),
+                    linkStatus(rs),
+                    toString(rs.getTimestamp("changed_at")),
+                    rs.getString("demand_series_id"),
+                    rs.getString("demand_category_code_id"),
+                    rs.getString("customer_location_id"),
+                    calendarWeek == null ? null : calendarWeek.toLocalDateTime().toLocalDate().toString(),
+                    rs.getBigDecimal("demand")
+                );
+            },
+            parameters.toArray()
+        );
+        writer.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCapacityGroups(
+        ExportFilter filter,
+        ExportFormat format,
+        String userID,
+        Role role,
+        OutputStream out
+    ) throws IOException {
+        StringBuilder sql = new StringBuilder(
+            """
+            select cg.id, cg.capacity_group_name, cg.customer, cg.supplier, cg.link_status,
+                ts.calendar_week, ts.actual_capacity, ts.maximum_capacity
+            from capacity_group cg
+            join capacity_time_series ts on ts.capacity_group_id = cg.id
+            where true"""
+        );
+        List<Object> parameters = new ArrayList<>();
+        if (role == Role.SUPPLIER) {
+            sql.append(" and cg.userid = ?");
+            parameters.add(UUID.fromString(userID));
+        } else if (role == Role.CUSTOMER) {
+            sql.append(" and cg.customer = ?");
+            parameters.add(requestContext.findUser(UUID.fromString(userID)).map(UserEntity::getCompanyID).orElse(null));
+        }
+        if (filter.company() != null) {
+            sql.append(" and (cg.customer = ? or cg.supplier = ?)");
+            parameters.add(filter.company());
+            parameters.add(filter.company());
+        }
+        // Bound by the ISO text of the filter dates, the format the capacity time series stores its weeks in
+        if (filter.from() != null) {
+            sql.append(" and ts.calendar_week >= ?");
+            parameters.add(filter.from().toString());
+        }
+        if (filter.to() != null) {
+            sql.append(" and ts.calendar_week <= ?");
+            parameters.add(filter.to().toString());
+        }
+        if (filter.linkStatus() != null) {
+            sql.append(" and cg.link_status = ?");
+            parameters.add(String.valueOf(filter.linkStatus().ordinal()));
+        }
+        sql.append(" order by cg.id, ts.calendar_week");
+
+        ExportRowWriter writer = new ExportRowWriter(format, CAPACITY_COLUMNS, out, objectMapper);
+        jdbcTemplate.query(
+            sql.toString(),
+            rs -> {
+                writer.writeRow(
+                    rs.getString("id"),
+                    rs.getString("capacity_group_name"),
+                    rs.getString("customer"),
+                    rs.getString("supplier"),
+                    linkStatus(rs),
+                    rs.getString("calendar_week"),
+                    rs.getBigDecimal("actual_capacity"),
+                    rs.getBigDecimal("maximum_capacity")
+                );
+            },
+            parameters.toArray()
+        );
+        writer.flush();
+    }
+
+    private static String linkStatus(ResultSet rs) throws SQLException {
+        String ordinal = rs.getString("link_status");
+        if (ordinal == null) {
+            return null;
+        }
+        try {
+            return EVENT_TYPES[Integer.parseInt(ordinal)].name();
+        } catch (RuntimeException e) {
+            return ordinal;
+        }
+    }
+
+    private static String toString(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+    }
+}
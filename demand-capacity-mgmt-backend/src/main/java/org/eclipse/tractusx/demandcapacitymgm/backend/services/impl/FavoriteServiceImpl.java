@@ -34,11 +34,18 @@ import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 @Service
@@ -60,194 +67,182 @@ public class FavoriteServiceImpl implements FavoriteService {
     @Override
     public FavoriteResponse getAllFavorites(String userID) {
         List<FavoriteEntity> favoriteEntities = favoriteRepository.findByUserID(UUID.fromString(userID));
-        return filterFavorites(favoriteEntities);
+        return resolveFavorites(favoriteEntities, EnumSet.allOf(FavoriteType.class));
     }
 
     @Override
     public FavoriteResponse getAllFavoritesByType(String userID, FavoriteType type) {
-        List<FavoriteEntity> favoriteResponseList = favoriteRepository.findByUserIDAndType(
-            UUID.fromString(userID),
-            type
-        );
-        switch (type) {
-            case CAPACITY_GROUP -> {
-                List<SingleCapacityGroupFavoriteResponse> favoriteResponses = new ArrayList<>();
-                for (FavoriteEntity fav : favoriteResponseList) {
-                    favoriteResponses.add(convertToSingleCapacityGroup(fav));
-                }
-                FavoriteResponse response = new FavoriteResponse();
-                response.setCapacityGroups(favoriteResponses);
-                return response;
-            }
-            case MATERIAL_DEMAND -> {
-                List<MaterialDemandFavoriteResponse> favoriteResponses = new ArrayList<>();
-                for (FavoriteEntity fav : favoriteResponseList) {
-                    favoriteResponses.add(convertToMaterialDemandResponse(fav));
-                }
-                FavoriteResponse response = new FavoriteResponse();
-                response.setMaterialDemands(favoriteResponses);
-                return response;
-            }
-            case COMPANY_BASE_DATA -> {
-                List<CompanyDtoFavoriteResponse> favoriteResponses = new ArrayList<>();
-                for (FavoriteEntity fav : favoriteResponseList) {
-                    favoriteResponses.add(convertToCompanyDto(fav));
-                }
-                FavoriteResponse response = new FavoriteResponse();
-                response.setCompanies(favoriteResponses);
-                return response;
-            }
-            case EVENT -> {
-                List<EventFavoriteResponse> favoriteResponses = new ArrayList<>();
-                for (FavoriteEntity fav : favoriteResponseList) {
-                    favoriteResponses.add(convertToEventDto(fav));
-                }
-                FavoriteResponse response = new FavoriteResponse();
-                response.setEvents(favoriteResponses);
-                return response;
-            }
-            case ADDRESS_BOOK -> {
-                List<AddressBookFavoriteResponse> favoriteResponses = new ArrayList<>();
-                for (FavoriteEntity fav : favoriteResponseList) {
-                    favoriteResponses.add(convertToAddressBookDto(fav));
-                }
-                FavoriteResponse response = new FavoriteResponse();
-                response.setAddressBooks(favoriteResponses);
-                return response;
-            }
-        }
-        return new FavoriteResponse();
+        List<FavoriteEntity> favoriteEntities = favoriteRepository.findByUserIDAndType(UUID.fromString(userID), type);
+        return resolveFavorites(favoriteEntities, EnumSet.of(type));
     }
 
-    private FavoriteResponse filterFavorites(List<FavoriteEntity> favoriteEntities) {
-        FavoriteResponse response = new FavoriteResponse();
+    @Override
+    public boolean isFavorite(String userID, UUID objectId) {
+        return favoriteRepository.existsByUserIDAndFavoriteId(UUID.fromString(userID), objectId);
+    }
 
-        List<SingleCapacityGroupFavoriteResponse> capacityGroupList = new ArrayList<>();
-        List<MaterialDemandFavoriteResponse> materialDemandList = new ArrayList<>();
-        List<CompanyDtoFavoriteResponse> companyList = new ArrayList<>();
-        List<EventFavoriteResponse> eventsList = new ArrayList<>();
-        List<AddressBookFavoriteResponse> addressBookList = new ArrayList<>();
+    @Override
+    public List<UUID> getFavoriteIds(String userID, FavoriteType type) {
+        return favoriteRepository.findFavoriteIdsByUserIDAndType(UUID.fromString(userID), type);
+    }
 
+    /**
+     * Resolves the favorites of the requested types with one IN query per type, keeping the order of the favorites.
+     * Favorites whose object no longer exists are left out.
+     */
+    private FavoriteResponse resolveFavorites(List<FavoriteEntity> favoriteEntities, Set<FavoriteType> types) {
+        Map<FavoriteType, List<FavoriteEntity>> favoritesByType = new EnumMap<>(FavoriteType.class);
         for (FavoriteEntity entity : favoriteEntities) {
-            switch (entity.getType()) {
-                case CAPACITY_GROUP -> capacityGroupList.add(convertToSingleCapacityGroup(entity));
-                case MATERIAL_DEMAND -> materialDemandList.add(convertToMaterialDemandResponse(entity));
-                case COMPANY_BASE_DATA -> companyList.add(convertToCompanyDto(entity));
-                case EVENT -> eventsList.add(convertToEventDto(entity));
-                case ADDRESS_BOOK -> addressBookList.add(convertToAddressBookDto(entity));
-            }
+            favoritesByType.computeIfAbsent(entity.getType(), type -> new ArrayList<>()).add(entity);
         }
 
-        // Set the filtered lists to the response
-        response.setCapacityGroups(capacityGroupList);
-        response.setMaterialDemands(materialDemandList);
-        response.setCompanies(companyList);
-        response.setEvents(eventsList);
-        response.setAddressBooks(addressBookList);
-
+        FavoriteResponse response = new FavoriteResponse();
+        for (FavoriteType type : types) {
+            List<FavoriteEntity> favorites = favoritesByType.getOrDefault(type, List.of());
+            switch (type) {
+                case CAPACITY_GROUP -> response.setCapacityGroups(
+                    resolve(
+                        favorites,
+                        capacityGroupRepository::findAllWithCompaniesByIdIn,
+                        CapacityGroupEntity::getId,
+                        this::convertToSingleCapacityGroup
+                    )
+                );
+                case MATERIAL_DEMAND -> response.setMaterialDemands(resolveMaterialDemands(favorites));
+                case COMPANY_BASE_DATA -> response.setCompanies(
+                    resolve(favorites, companyRepository::findAllById, CompanyEntity::getId, this::convertToCompanyDto)
+                );
+                case EVENT -> response.setEvents(
+                    resolve(
+                        favorites,
+                        eventRepository::findAllByLogIDIn,
+                        LoggingHistoryEntity::getLogID,
+                        this::convertToEventDto
+                    )
+                );
+                case ADDRESS_BOOK -> response.setAddressBooks(
+                    resolve(
+                        favorites,
+                        addressBookRepository::findAllById,
+                        AddressBookRecordEntity::getId,
+                        this::convertToAddressBookDto
+                    )
+                );
+            }
+        }
         return response;
     }
 
-    private AddressBookFavoriteResponse convertToAddressBookDto(FavoriteEntity entity) {
-        Optional<AddressBookRecordEntity> recordEntity = addressBookRepository.findById(entity.getFavoriteId());
-        if (recordEntity.isPresent()) {
-            AddressBookRecordEntity record = recordEntity.get();
-            AddressBookFavoriteResponse response = new AddressBookFavoriteResponse();
-            response.setName(record.getName());
-            response.setId(record.getId().toString());
-            //            response.setLandLine(record.getLandLine());
-            //            response.setCellPhone(record.getCellPhone());
-            //            response.setDepartment(record.getDepartment());
-            response.setPicture(record.getPicture());
-            response.setContact(record.getContact());
-            response.setEmail(record.getEmail());
-            response.setCompanyId(response.getCompanyId());
-            response.setFunction(record.getFunction());
-            return response;
-        } else return null;
+    private static <T, R> List<R> resolve(
+        List<FavoriteEntity> favorites,
+        Function<Collection<UUID>, List<T>> loader,
+        Function<T, UUID> idOf,
+        BiFunction<FavoriteEntity, T, R> converter
+    ) {
+        if (favorites.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, T> objectsById = new HashMap<>();
+        for (T object : loader.apply(favoriteIds(favorites))) {
+            objectsById.put(idOf.apply(object), object);
+        }
+        List<R> responses = new ArrayList<>();
+        for (FavoriteEntity favorite : favorites) {
+            T object = objectsById.get(favorite.getFavoriteId());
+            if (object != null) {
+                responses.add(converter.apply(favorite, object));
+            }
+        }
+        return responses;
     }
 
-    private SingleCapacityGroupFavoriteResponse convertToSingleCapacityGroup(FavoriteEntity entity) {
-        Optional<CapacityGroupEntity> cgEntity = capacityGroupRepository.findById(entity.getFavoriteId());
-        if (cgEntity.isPresent()) {
-            CapacityGroupEntity capacityGroup = cgEntity.get();
-            SingleCapacityGroupFavoriteResponse scgfv = new SingleCapacityGroupFavoriteResponse();
-            scgfv.setId(capacityGroup.getId().toString());
-            scgfv.setCapacityGroupId(capacityGroup.getId().toString());
-            scgfv.setCapacityGroupName(capacityGroup.getCapacityGroupName());
-            scgfv.setCustomer(convertToCompanyDto(capacityGroup.getCustomer()));
-            scgfv.setStatus(capacityGroup.getLinkStatus().toString());
-            scgfv.setSupplier(convertToCompanyDto(capacityGroup.getSupplier()));
-            scgfv.setFavoritedAt(entity.getFavorited_at().toString());
-            return scgfv;
-        } else return null;
+    private static Set<UUID> favoriteIds(List<FavoriteEntity> favorites) {
+        Set<UUID> ids = new HashSet<>();
+        for (FavoriteEntity favorite : favorites) {
+            ids.add(favorite.getFavoriteId());
+        }
+        return ids;
     }
 
-    private MaterialDemandFavoriteResponse convertToMaterialDemandResponse(FavoriteEntity entity) {
-        Optional<MaterialDemandEntity> materialDemandEntity = materialDemandRepository.findById(entity.getFavoriteId());
-        if (materialDemandEntity.isPresent()) {
-            MaterialDemandEntity materialDemand = materialDemandEntity.get();
-
-            MaterialDemandFavoriteResponse response = new MaterialDemandFavoriteResponse();
-            response.setId(materialDemand.getId().toString());
-
-            CompanyEntity cEntity = materialDemand.getCustomerId();
-            CompanyEntity sEntity = materialDemand.getSupplierId();
-
-            response.setCustomer(convertToCompanyDto(cEntity));
-            response.setSupplier(convertToCompanyDto(sEntity));
-
-            LinkedCapacityGroupMaterialDemandEntity lcgm = linkedMaterialDemandRepository.findByMaterialDemandID(
-                cEntity.getId()
-            );
-            if (lcgm != null) {
-                response.setStatus(EventType.LINKED.toString());
-            } else response.setStatus(EventType.TODO.toString());
-
-            List<DemandSeries> demandSeriesList = materialDemand.getDemandSeries();
-            LocalDate biggestDate = null;
-            LocalDate smallestDate = null;
-            for (DemandSeries demandSeries : demandSeriesList) {
-                List<DemandSeriesValues> demandSeriesValuesList = demandSeries.getDemandSeriesValues();
-
-                for (DemandSeriesValues demandSeriesValues : demandSeriesValuesList) {
-                    LocalDate calendarWeek = demandSeriesValues.getCalendarWeek();
-
-                    if (biggestDate == null || calendarWeek.isAfter(biggestDate)) {
-                        biggestDate = calendarWeek;
-                    }
+    private List<MaterialDemandFavoriteResponse> resolveMaterialDemands(List<FavoriteEntity> favorites) {
+        if (favorites.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<UUID> linkedDemandIds = new HashSet<>(
+            linkedMaterialDemandRepository.findLinkedMaterialDemandIDs(favoriteIds(favorites))
+        );
+        return resolve(
+            favorites,
+            materialDemandRepository::findAllWithReferencesByIdIn,
+            MaterialDemandEntity::getId,
+            (favorite, materialDemand) ->
+                convertToMaterialDemandResponse(
+                    favorite,
+                    materialDemand,
+                    linkedDemandIds.contains(materialDemand.getId())
+                )
+        );
+    }
 
-                    if (smallestDate == null || calendarWeek.isBefore(smallestDate)) {
-                        smallestDate = calendarWeek;
-                    }
-                }
-            }
-            response.setMaterialDescriptionCustomer(materialDemand.getMaterialDescriptionCustomer());
-            response.setMaterialNumberCustomer(materialDemand.getMaterialNumberCustomer());
-            response.setMaterialNumberSupplier(materialDemand.getMaterialNumberSupplier());
-            response.setChangedAt(materialDemand.getChangedAt().toString());
-            response.setUnitOfMeasure(materialDemand.getUnitMeasure().getId().toString());
-            response.setFavoritedAt(entity.getFavorited_at().toString());
+    private AddressBookFavoriteResponse convertToAddressBookDto(FavoriteEntity entity, AddressBookRecordEntity record) {
+        AddressBookFavoriteResponse response = new AddressBookFavoriteResponse();
+        response.setName(record.getName());
+        response.setId(record.getId().toString());
+        //            response.setLandLine(record.getLandLine());
+        //            response.setCellPhone(record.getCellPhone());
+        //            response.setDepartment(record.getDepartment());
+        response.setPicture(record.getPicture());
+        response.setContact(record.getContact());
+        response.setEmail(record.getEmail());
+        response.setCompanyId(record.getCompanyId() == null ? null : record.getCompanyId().toString());
+        response.setFunction(record.getFunction());
+        return response;
+    }
 
-            return response;
-        } else return null;
+    private SingleCapacityGroupFavoriteResponse convertToSingleCapacityGroup(
+        FavoriteEntity entity,
+        CapacityGroupEntity capacityGroup
+    ) {
+        SingleCapacityGroupFavoriteResponse scgfv = new SingleCapacityGroupFavoriteResponse();
+        scgfv.setId(capacityGroup.getId().toString());
+        scgfv.setCapacityGroupId(capacityGroup.getId().toString());
+        scgfv.setCapacityGroupName(capacityGroup.getCapacityGroupName());
+        scgfv.setCustomer(convertToCompanyDto(capacityGroup.getCustomer()));
+        scgfv.setStatus(capacityGroup.getLinkStatus().toString());
+        scgfv.setSupplier(convertToCompanyDto(capacityGroup.getSupplier()));
+        scgfv.setFavoritedAt(entity.getFavorited_at().toString());
+        return scgfv;
     }
 
-    private CompanyDtoFavoriteResponse convertToCompanyDto(FavoriteEntity entity) {
-        Optional<CompanyEntity> cEntity = companyRepository.findById(entity.getFavoriteId());
-        if (cEntity.isPresent()) {
-            CompanyEntity companyEntity = cEntity.get();
+    private MaterialDemandFavoriteResponse convertToMaterialDemandResponse(
+        FavoriteEntity entity,
+        MaterialDemandEntity materialDemand,
+        boolean linked
+    ) {
+        MaterialDemandFavoriteResponse response = new MaterialDemandFavoriteResponse();
+        response.setId(materialDemand.getId().toString());
+        response.setCustomer(convertToCompanyDto(materialDemand.getCustomerId()));
+        response.setSupplier(convertToCompanyDto(materialDemand.getSupplierId()));
+        response.setStatus(linked ? EventType.LINKED.toString() : EventType.TODO.toString());
+        response.setMaterialDescriptionCustomer(materialDemand.getMaterialDescriptionCustomer());
+        response.setMaterialNumberCustomer(materialDemand.getMaterialNumberCustomer());
+        response.setMaterialNumberSupplier(materialDemand.getMaterialNumberSupplier());
+        response.setChangedAt(materialDemand.getChangedAt().toString());
+        response.setUnitOfMeasure(materialDemand.getUnitMeasure().getId().toString());
+        response.setFavoritedAt(entity.getFavorited_at().toString());
+        return response;
+    }
 
-            CompanyDtoFavoriteResponse companyFavoriteResponse = new CompanyDtoFavoriteResponse();
-            companyFavoriteResponse.setId(companyEntity.getId().toString());
-            companyFavoriteResponse.setBpn(companyEntity.getBpn());
-            companyFavoriteResponse.setMyCompany(companyEntity.getMyCompany());
-            companyFavoriteResponse.setCompanyName(companyEntity.getCompanyName());
-            companyFavoriteResponse.setCountry(companyEntity.getCountry());
-            companyFavoriteResponse.setZipCode(companyEntity.getZipCode());
-            companyFavoriteResponse.setFavoritedAt(entity.getFavorited_at().toString());
-            return companyFavoriteResponse;
-        } else return null;
+    private CompanyDtoFavoriteResponse convertToCompanyDto(FavoriteEntity entity, CompanyEntity companyEntity) {
+        CompanyDtoFavoriteResponse companyFavoriteResponse = new CompanyDtoFavoriteResponse();
+        companyFavoriteResponse.setId(companyEntity.getId().toString());
+        companyFavoriteResponse.setBpn(companyEntity.getBpn());
+        companyFavoriteResponse.setMyCompany(companyEntity.getMyCompany());
+        companyFavoriteResponse.setCompanyName(companyEntity.getCompanyName());
+        companyFavoriteResponse.setCountry(companyEntity.getCountry());
+        companyFavoriteResponse.setZipCode(companyEntity.getZipCode());
+        companyFavoriteResponse.setFavoritedAt(entity.getFavorited_at().toString());
+        return companyFavoriteResponse;
     }
 
     private CompanyDto convertToCompanyDto(CompanyEntity entity) {
@@ -263,8 +258,7 @@ public class FavoriteServiceImpl implements FavoriteService {
         return dto;
     }
 
-    private EventFavoriteResponse convertToEventDto(FavoriteEntity entity) {
-        LoggingHistoryEntity eEntity = eventRepository.findByLogID(entity.getFavoriteId());
+    private EventFavoriteResponse convertToEventDto(FavoriteEntity entity, LoggingHistoryEntity eEntity) {
         EventFavoriteResponse eventEntity = new EventFavoriteResponse();
         eventEntity.setEventType(eEntity.getEventType().toString());
         eventEntity.setDescription(eEntity.getDescription());
@@ -0,0 +1,73 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.PartnerSyncProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.PartnerPayload;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerTransportService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stand-in transport for local runs and tests. Writes each payload to
+ * {@code <directory>/<partner>/<feed>/<toVersion>-<idempotencyKey>.ndjson.gz}, a payload sent again replaces
+ * its earlier file.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.partner-sync", name = "transport", havingValue = "file")
+public class FilePartnerTransportServiceImpl implements PartnerTransportService {
+
+    private final PartnerSyncProperties properties;
+
+    @Override
+    public void send(PartnerPayload payload) throws IOException {
+        Path directory = Path
+            .of(properties.directory(), safeName(payload.partnerBpn()), payload.feed().name().toLowerCase());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(
+            String.format("%019d-%s.ndjson.gz", payload.toVersion(), payload.idempotencyKey())
+        );
+
+        Path temporary = Files.createTempFile(directory, ".payload", ".tmp");
+        try {
+            Files.write(temporary, payload.body());
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        log.debug("Wrote {} deltas for partner {} to {}", payload.items(), payload.partnerBpn(), target);
+    }
+
+    // The BPN comes from the stored documents, keep it from escaping the directory
+    private static String safeName(String partnerBpn) {
+        return partnerBpn.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+}
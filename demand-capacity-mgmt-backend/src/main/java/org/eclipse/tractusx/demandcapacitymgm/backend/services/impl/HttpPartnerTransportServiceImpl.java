@@ -0,0 +1,76 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.PartnerSyncProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.PartnerPayload;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerTransportService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Stand-in transport for local runs and tests. Posts each payload without authorization to
+ * {@code <http-url>/<partner>/<feed>}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.partner-sync", name = "transport", havingValue = "http")
+public class HttpPartnerTransportServiceImpl implements PartnerTransportService {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final WebClient webClient;
+    private final PartnerSyncProperties properties;
+
+    public HttpPartnerTransportServiceImpl(
+        ReactorClientHttpConnector edcClientHttpConnector,
+        PartnerSyncProperties properties
+    ) {
+        this.webClient = WebClient.builder().clientConnector(edcClientHttpConnector).build();
+        this.properties = properties;
+    }
+
+    @Override
+    public void send(PartnerPayload payload) {
+        webClient
+            .post()
+            .uri(
+                properties.httpUrl() + "/{partner}/{feed}",
+                payload.partnerBpn(),
+                payload.feed().name().toLowerCase().replace('_', '-')
+            )
+            .contentType(NDJSON)
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .header("Idempotency-Key", payload.idempotencyKey())
+            .header("Edc-Bpn", properties.ownBpn())
+            .bodyValue(payload.body())
+            .retrieve()
+            .toBodilessEntity()
+            .block(properties.timeout());
+        log.debug("Sent {} deltas for partner {} to {}", payload.items(), payload.partnerBpn(), properties.httpUrl());
+    }
+}
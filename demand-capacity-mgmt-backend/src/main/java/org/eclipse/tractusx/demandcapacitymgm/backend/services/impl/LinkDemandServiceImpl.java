@@ -66,7 +66,7 @@ public class LinkDemandServiceImpl implements LinkDemandService {
         loggingHistoryRequest.setEventType(EventType.GENERAL_EVENT.toString());
         loggingHistoryRequest.setEventDescription("LinkDemands Created");
         loggingHistoryRequest.setLogID(UUID.randomUUID().toString());
-        loggingHistoryService.createLog(loggingHistoryRequest);
+        loggingHistoryService.postLog(loggingHistoryRequest);
     }
 
     private List<LinkDemandEntity> convertFromWeekBasedMaterial(WeekBasedMaterialDemandEntity weekBasedMaterialDemand) {
@@ -23,20 +23,25 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
 
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.ArchivedLogEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.LoggingHistoryEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UserEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.FavoriteType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.LoggingHistoryFilter;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.ArchivedLogsRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.LoggingHistoryRepository;
-import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.UserRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.FavoriteService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryService;
-import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UserUtil;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryWriterService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.CursorUtil;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
@@ -49,12 +54,15 @@ import java.util.stream.Collectors;
 @Slf4j
 public class LoggingHistoryServiceImpl implements LoggingHistoryService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final LoggingHistoryRepository loggingHistoryRepository;
     private final ArchivedLogsRepository archivedLogsRepository;
     private final FavoriteService favoriteService;
+    private final LoggingHistoryWriterService loggingHistoryWriterService;
 
-    private final UserRepository userRepository;
-    private final HttpServletRequest request;
+    private final RequestContext requestContext;
 
     @Override
     public List<LoggingHistoryResponse> getAllLoggingHistory() {
@@ -64,8 +72,19 @@ public class LoggingHistoryServiceImpl implements LoggingHistoryService {
 
     @Override
     public LoggingHistoryResponse createLog(LoggingHistoryRequest loggingHistoryRequest) {
-        String userAccount = UserUtil.getUserID(request);
-        Optional<UserEntity> userEntity = userRepository.findById(UUID.fromString(userAccount));
+        LoggingHistoryEntity loggingHistoryEntity = enrichLog(loggingHistoryRequest);
+        loggingHistoryRepository.save(loggingHistoryEntity);
+        return convertLoggingHistoryResponseDto(loggingHistoryEntity);
+    }
+
+    @Override
+    public void postLog(LoggingHistoryRequest loggingHistoryRequest) {
+        loggingHistoryWriterService.write(List.of(enrichLog(loggingHistoryRequest)));
+    }
+
+    private LoggingHistoryEntity enrichLog(LoggingHistoryRequest loggingHistoryRequest) {
+        String userAccount;
+        Optional<UserEntity> userEntity = requestContext.getUser();
         if (userEntity.isPresent()) {
             userAccount = userEntity.get().getUsername();
         } else {
@@ -75,9 +94,7 @@ public class LoggingHistoryServiceImpl implements LoggingHistoryService {
         loggingHistoryRequest.setUserAccount(userAccount);
         LocalDateTime currentLocalDateTime = LocalDateTime.now();
         loggingHistoryRequest.setTimeCreated(Timestamp.valueOf(currentLocalDateTime).toString());
-        LoggingHistoryEntity loggingHistoryEntity = convertDtoToEntity(loggingHistoryRequest);
-        loggingHistoryRepository.save(loggingHistoryEntity);
-        return convertLoggingHistoryResponseDto(loggingHistoryEntity);
+        return convertDtoToEntity(loggingHistoryRequest);
     }
 
     @Override
@@ -154,83 +171,88 @@ public class LoggingHistoryServiceImpl implements LoggingHistoryService {
         return loggingHistoryEntity;
     }
 
-    //    @Override
-    public List<LoggingHistoryResponse> getLoggingHistoryByCapacityId(String capacityGroupId) {
-        List<LoggingHistoryResponse> loggingHistoryResponses = getAllLoggingHistory();
-		loggingHistoryResponses = loggingHistoryResponses
-			.stream()
-			.filter(log -> (Objects.equals(log.getCapacityGroupId(), capacityGroupId)))
-			.collect(Collectors.toList());
-        return loggingHistoryResponses;
-    }
-
-    //    @Override
-    public List<LoggingHistoryResponse> getLoggingHistoryByMaterialDemandId(String materialDemandId) {
-        List<LoggingHistoryResponse> loggingHistoryResponses = getAllLoggingHistory();
-		loggingHistoryResponses = loggingHistoryResponses
-			.stream()
-			.filter(log -> Objects.equals(log.getMaterialDemandId(), materialDemandId))
-			.collect(Collectors.toList());
-        return loggingHistoryResponses;
-    }
-
     @Override
-    public List<LoggingHistoryResponse> filterLog(
+    public LoggingHistoryPageResponse filterLog(
         String capacityGroupId,
         String materialDemandId,
         String filterText,
         String startTime,
-        String endTime
+        String endTime,
+        String cursor,
+        Integer size
     ) {
-        Timestamp startTimeStamp;
-        Timestamp endTimeStamp;
-        if (!(startTime.isEmpty() && endTime.isEmpty())) {
-            startTimeStamp = new Timestamp(Long.parseLong(startTime) * 1000L);
-            endTimeStamp = new Timestamp(Long.parseLong(endTime) * 1000L);
-        } else {
-            startTimeStamp = null;
-            endTimeStamp = null;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("1", "10");
         }
-        List<LoggingHistoryResponse> loggingHistoryResponses = getAllLoggingHistory();
-        List<LoggingHistoryResponse> filteredLoggingHistoryResponses = new ArrayList<>();
-
-        for (LoggingHistoryResponse log : loggingHistoryResponses) {
-            if (
-                isOnTimeInterval(startTimeStamp, endTimeStamp, Timestamp.valueOf(log.getTimeCreated())) ||
-                isMatchesId(capacityGroupId, materialDemandId, log) ||
-                containsEventText(filterText, log)
-            ) {
-                filteredLoggingHistoryResponses.add(log);
-            }
+
+        LoggingHistoryFilter filter = new LoggingHistoryFilter(
+            parseEpochSeconds(startTime),
+            parseEpochSeconds(endTime),
+            parseUUID(capacityGroupId),
+            parseUUID(materialDemandId),
+            filterText,
+            matchingEventTypes(filterText)
+        );
+        LoggingHistoryPageResponse response = new LoggingHistoryPageResponse();
+        if (filter.isEmpty()) {
+            response.setLogs(new ArrayList<>());
+            return response;
         }
 
-        loggingHistoryResponses = filteredLoggingHistoryResponses;
+        Pair<LocalDateTime, Integer> position = decodeCursor(cursor);
+        // One extra row tells whether another page follows
+        List<LoggingHistoryEntity> logs = loggingHistoryRepository.findFiltered(
+            filter,
+            position == null ? null : Timestamp.valueOf(position.getLeft()),
+            position == null ? null : position.getRight(),
+            pageSize + 1
+        );
+        boolean hasNext = logs.size() > pageSize;
+        if (hasNext) {
+            logs = logs.subList(0, pageSize);
+        }
 
-        return loggingHistoryResponses;
+        response.setLogs(logs.stream().map(this::convertLoggingHistoryResponseDto).collect(Collectors.toList()));
+        if (hasNext) {
+            LoggingHistoryEntity last = logs.get(logs.size() - 1);
+            response.setNextCursor(CursorUtil.encode(last.getTime_created().toLocalDateTime(), last.getId()));
+        }
+        return response;
     }
 
-    private static boolean isMatchesId(String capacityGroupId, String materialDemandId, LoggingHistoryResponse log) {
-        if (!(capacityGroupId.isEmpty()) && Objects.equals(log.getCapacityGroupId(), capacityGroupId)) {
-            return true;
+    private static Timestamp parseEpochSeconds(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new Timestamp(Long.parseLong(value) * 1000L);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("1", "10");
         }
-        return !(materialDemandId.isEmpty()) && Objects.equals(log.getMaterialDemandId(), materialDemandId);
     }
 
-    private static boolean containsEventText(String filterText, LoggingHistoryResponse log) {
-        if (filterText != null && !filterText.isEmpty()) {
-            return log.getEventType().contains(filterText) || log.getEventDescription().contains(filterText);
+    // The UI searches with the same free text in every field, so a non UUID value simply matches nothing
+    private static UUID parseUUID(String value) {
+        return value != null && UUIDUtil.checkValidUUID(value) ? UUID.fromString(value) : null;
+    }
+
+    private static List<EventType> matchingEventTypes(String filterText) {
+        if (filterText == null || filterText.isBlank()) {
+            return List.of();
         }
-        return false;
+        return Arrays.stream(EventType.values()).filter(type -> type.name().contains(filterText)).toList();
     }
 
-    boolean isOnTimeInterval(Timestamp startTime, Timestamp endTime, Timestamp logCreationTime) {
+    private static Pair<LocalDateTime, Integer> decodeCursor(String cursor) {
+        String[] values = CursorUtil.decode(cursor, 2);
+        if (values == null) {
+            return null;
+        }
         try {
-            if (startTime == null || endTime == null) {
-                return false;
-            }
-            return logCreationTime.after(startTime) && logCreationTime.before(endTime);
-        } catch (Exception e) {
-            return false;
+            return Pair.of(LocalDateTime.parse(values[0]), Integer.valueOf(values[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("1", "10");
         }
     }
 
@@ -241,26 +263,28 @@ public class LoggingHistoryServiceImpl implements LoggingHistoryService {
 
     @Override
     public List<LoggingHistoryResponse> filterByFavoriteMaterialDemand(String userID) {
-        List<LoggingHistoryResponse> loggingHistoryResponses = new java.util.ArrayList<>(List.of());
-        FavoriteResponse favoriteResponses = favoriteService.getAllFavorites(userID);
-
-        for (MaterialDemandFavoriteResponse materialDemandFavoriteResponse : favoriteResponses.getMaterialDemands()) {
-            loggingHistoryResponses.addAll(getLoggingHistoryByMaterialDemandId(materialDemandFavoriteResponse.getId()));
+        List<UUID> materialDemandIds = favoriteService.getFavoriteIds(userID, FavoriteType.MATERIAL_DEMAND);
+        if (materialDemandIds.isEmpty()) {
+            return new ArrayList<>();
         }
-
-        return loggingHistoryResponses;
+        return loggingHistoryRepository
+            .findAllByMaterialDemandIdIn(materialDemandIds)
+            .stream()
+            .map(this::convertLoggingHistoryResponseDto)
+            .collect(Collectors.toList());
     }
 
     @Override
     public List<LoggingHistoryResponse> filterByFavoriteCapacityGroup(String userID) {
-        List<LoggingHistoryResponse> loggingHistoryResponses = new java.util.ArrayList<>(List.of());
-        FavoriteResponse favoriteResponses = favoriteService.getAllFavorites(userID);
-
-        for (SingleCapacityGroupFavoriteResponse singleCapacityGroupFavoriteResponse : favoriteResponses.getCapacityGroups()) {
-            loggingHistoryResponses.addAll(getLoggingHistoryByCapacityId(singleCapacityGroupFavoriteResponse.getId()));
+        List<UUID> capacityGroupIds = favoriteService.getFavoriteIds(userID, FavoriteType.CAPACITY_GROUP);
+        if (capacityGroupIds.isEmpty()) {
+            return new ArrayList<>();
         }
-
-        return loggingHistoryResponses;
+        return loggingHistoryRepository
+            .findAllByCapacityGroupIdIn(capacityGroupIds)
+            .stream()
+            .map(this::convertLoggingHistoryResponseDto)
+            .collect(Collectors.toList());
     }
 
     private LoggingHistoryResponse convertLoggingHistoryResponseDto(LoggingHistoryEntity loggingHistoryEntity) {
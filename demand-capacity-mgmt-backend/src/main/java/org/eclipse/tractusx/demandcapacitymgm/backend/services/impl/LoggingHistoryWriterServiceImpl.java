@@ -0,0 +1,192 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.LoggingWriterProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.LoggingHistoryEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.LoggingHistoryRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryWriterService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.TransactionUtil;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class LoggingHistoryWriterServiceImpl implements LoggingHistoryWriterService {
+
+    private static final long SHUTDOWN_GRACE_MILLIS = 30 * 1000;
+
+    private final LoggingHistoryRepository loggingHistoryRepository;
+    private final BlockingQueue<LoggingHistoryEntity> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+    private final Thread writerThread;
+
+    private final Counter written;
+    private final Counter failed;
+    private final Counter callerWrites;
+
+    private volatile boolean running = true;
+
+    public LoggingHistoryWriterServiceImpl(
+        LoggingHistoryRepository loggingHistoryRepository,
+        LoggingWriterProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.loggingHistoryRepository = loggingHistoryRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(properties.queueCapacity(), 1));
+        this.batchSize = Math.max(properties.batchSize(), 1);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(properties.flushIntervalMillis(), 1));
+        this.offerTimeoutMillis = Math.max(properties.offerTimeoutMillis(), 0);
+        this.writerThread = new CustomizableThreadFactory("logging-history-writer-").newThread(this::run);
+
+        this.written = Counter.builder("logging.writer.logs").tag("result", "written").register(meterRegistry);
+        this.failed = Counter.builder("logging.writer.logs").tag("result", "failed").register(meterRegistry);
+        this.callerWrites = Counter.builder("logging.writer.caller.writes").register(meterRegistry);
+        Gauge.builder("logging.writer.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    @Override
+    public void write(Collection<LoggingHistoryEntity> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        List<LoggingHistoryEntity> pending = List.copyOf(logs);
+        TransactionUtil.afterCommit(() -> enqueue(pending));
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    private void enqueue(List<LoggingHistoryEntity> logs) {
+        List<LoggingHistoryEntity> rejected = new ArrayList<>();
+        for (LoggingHistoryEntity log : logs) {
+            if (!running || !offer(log)) {
+                rejected.add(log);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            // Backpressure: the writer falls behind, so the producer pays for its own logs
+            callerWrites.increment();
+            flush(rejected);
+        }
+    }
+
+    private boolean offer(LoggingHistoryEntity log) {
+        try {
+            return queue.offer(log, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run() {
+        List<LoggingHistoryEntity> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LoggingHistoryEntity first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, System.nanoTime() + flushIntervalNanos);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // Interrupted at shutdown while filling a batch, its logs are already off the queue. The flag
+                // is restored only after the write, as it would fail borrowing a connection
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Collects logs until the batch is full or the flush interval since its first log has passed.
+     */
+    private void fillBatch(List<LoggingHistoryEntity> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            LoggingHistoryEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<LoggingHistoryEntity> batch) {
+        try {
+            loggingHistoryRepository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Could not write {} logging history entries", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(SHUTDOWN_GRACE_MILLIS);
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            writerThread.join();
+        }
+        // Whatever the writer could not take in time is written here
+        List<LoggingHistoryEntity> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+}
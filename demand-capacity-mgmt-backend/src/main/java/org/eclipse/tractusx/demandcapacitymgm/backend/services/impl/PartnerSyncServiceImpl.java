@@ -0,0 +1,286 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.PartnerSyncProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.PartnerSyncProgressEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.PartnerSyncFeed;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.PartnerPayload;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.PartnerSyncProgressRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedCapacityGroupChangeRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedMaterialDemandChangeRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerSyncService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerTransportService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.WeekBasedDeltaUtil;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Publishes the week-based change feeds to each partner from the version the partner acknowledged last.
+ * Progress is stored after every acknowledged payload, so a failed run resumes where it stopped.
+ */
+@Service
+@Slf4j
+public class PartnerSyncServiceImpl implements PartnerSyncService {
+
+    private final WeekBasedMaterialDemandChangeRepository weekBasedMaterialDemandChangeRepository;
+    private final WeekBasedCapacityGroupChangeRepository weekBasedCapacityGroupChangeRepository;
+    private final PartnerSyncProgressRepository partnerSyncProgressRepository;
+    private final Optional<PartnerTransportService> partnerTransportService;
+    private final ObjectMapper objectMapper;
+    private final PartnerSyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public PartnerSyncServiceImpl(
+        WeekBasedMaterialDemandChangeRepository weekBasedMaterialDemandChangeRepository,
+        WeekBasedCapacityGroupChangeRepository weekBasedCapacityGroupChangeRepository,
+        PartnerSyncProgressRepository partnerSyncProgressRepository,
+        Optional<PartnerTransportService> partnerTransportService,
+        ObjectMapper objectMapper,
+        PartnerSyncProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.weekBasedMaterialDemandChangeRepository = weekBasedMaterialDemandChangeRepository;
+        this.weekBasedCapacityGroupChangeRepository = weekBasedCapacityGroupChangeRepository;
+        this.partnerSyncProgressRepository = partnerSyncProgressRepository;
+        this.partnerTransportService = partnerTransportService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(properties.batchSize(), 1);
+    }
+
+    @Override
+    public int publishWeekBasedMaterialDemands() {
+        return publish(
+            PartnerSyncFeed.WEEK_BASED_MATERIAL_DEMAND,
+            (partnerBpn, version) ->
+                weekBasedMaterialDemandChangeRepository
+                    .findByPartnerBpnAndVersionGreaterThanOrderByVersionAsc(
+                        partnerBpn,
+                        version,
+                        PageRequest.of(0, batchSize)
+                    )
+                    .stream()
+                    .map(change ->
+                        new FeedChange<>(
+                            change.getVersion(),
+                            change.getWeekBasedMaterialDemandId(),
+                            change.getBefore(),
+                            change.getAfter()
+                        )
+                    )
+                    .toList(),
+            WeekBasedDeltaUtil::materialDemandDelta
+        );
+    }
+
+    @Override
+    public int publishWeekBasedCapacityGroups() {
+        return publish(
+            PartnerSyncFeed.WEEK_BASED_CAPACITY_GROUP,
+            (partnerBpn, version) ->
+                weekBasedCapacityGroupChangeRepository
+                    .findByPartnerBpnAndVersionGreaterThanOrderByVersionAsc(
+                        partnerBpn,
+                        version,
+                        PageRequest.of(0, batchSize)
+                    )
+                    .stream()
+                    .map(change ->
+                        new FeedChange<>(
+                            change.getVersion(),
+                            change.getWeekBasedCapacityGroupId(),
+                            change.getBefore(),
+                            change.getAfter()
+                        )
+                    )
+                    .toList(),
+            WeekBasedDeltaUtil::capacityGroupDelta
+        );
+    }
+
+    private <T> int publish(PartnerSyncFeed feed, ChangeLoader<T> loader, BinaryOperator<T> delta) {
+        // Without a transport nothing is sent, and the progress of the partners stays where it is
+        if (!properties.enabled() || partnerTransportService.isEmpty()) {
+            return 0;
+        }
+        int published = 0;
+        for (PartnerSyncProgressEntity progress : partnerSyncProgressRepository.findAllByFeed(feed)) {
+            if (progress.getPartnerBpn().equals(properties.ownBpn())) {
+                continue;
+            }
+            try {
+                published +=
+                    publishToPartner(feed, progress.getPartnerBpn(), progress.getAcknowledgedVersion(), loader, delta);
+            } catch (Exception e) {
+                payloadCounter(feed, "failure").increment();
+                log.warn("Publishing {} to partner {} failed, the next run resumes", feed, progress.getPartnerBpn(), e);
+            }
+        }
+        return published;
+    }
+
+    private <T> int publishToPartner(
+        PartnerSyncFeed feed,
+        String partnerBpn,
+        long acknowledgedVersion,
+        ChangeLoader<T> loader,
+        BinaryOperator<T> delta
+    ) throws IOException {
+        int published = 0;
+        List<FeedChange<T>> changes;
+        do {
+            changes = loader.load(partnerBpn, acknowledgedVersion);
+            if (changes.isEmpty()) {
+                break;
+            }
+            long lastVersion = changes.get(changes.size() - 1).version();
+            List<Delta> deltas = coalesce(changes, delta);
+            for (PartnerPayload payload : pack(feed, partnerBpn, acknowledgedVersion, lastVersion, deltas)) {
+                if (payload.items() > 0) {
+                    partnerTransportService.get().send(payload);
+                    payloadCounter(feed, "success").increment();
+                    DistributionSummary
+                        .builder("partner.sync.payload.size")
+                        .baseUnit("bytes")
+                        .tag("feed", feed.name())
+                        .register(meterRegistry)
+                        .record(payload.body().length);
+                }
+                partnerSyncProgressRepository.acknowledge(feed, partnerBpn, payload.toVersion());
+                acknowledgedVersion = payload.toVersion();
+            }
+            published += changes.size();
+        } while (changes.size() == batchSize);
+        return published;
+    }
+
+    /**
+     * Merges the changes of each document into one delta from its first before to its last after. The deltas
+     * stay in the order of their first change; documents that did not change in effect are dropped.
+     */
+    private <T> List<Delta> coalesce(List<FeedChange<T>> changes, BinaryOperator<T> delta) throws IOException {
+        Map<UUID, FeedChange<T>> firstChanges = new LinkedHashMap<>();
+        Map<UUID, T> lastStates = new HashMap<>();
+        for (FeedChange<T> change : changes) {
+            firstChanges.putIfAbsent(change.documentId(), change);
+            lastStates.put(change.documentId(), change.after());
+        }
+
+        List<Delta> deltas = new ArrayList<>();
+        for (FeedChange<T> change : firstChanges.values()) {
+            T documentDelta = delta.apply(change.before(), lastStates.get(change.documentId()));
+            if (documentDelta != null) {
+                byte[] json = objectMapper.writeValueAsBytes(documentDelta);
+                byte[] line = new byte[json.length + 1];
+                System.arraycopy(json, 0, line, 0, json.length);
+                line[json.length] = '\n';
+                deltas.add(new Delta(change.version(), line));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Splits the deltas into payloads of at most maxPayloadBytes before compression. A payload acknowledges
+     * the versions before the first change of the next payload, every change up to there is in a sent payload.
+     */
+    private List<PartnerPayload> pack(
+        PartnerSyncFeed feed,
+        String partnerBpn,
+        long fromVersion,
+        long lastVersion,
+        List<Delta> deltas
+    ) throws IOException {
+        List<PartnerPayload> payloads = new ArrayList<>();
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        int items = 0;
+        for (Delta delta : deltas) {
+            if (items > 0 && lines.size() + delta.line().length > properties.maxPayloadBytes()) {
+                long toVersion = delta.firstVersion() - 1;
+                payloads.add(payload(feed, partnerBpn, fromVersion, toVersion, items, lines.toByteArray()));
+                fromVersion = toVersion;
+                lines.reset();
+                items = 0;
+            }
+            lines.write(delta.line());
+            items++;
+        }
+        payloads.add(payload(feed, partnerBpn, fromVersion, lastVersion, items, lines.toByteArray()));
+        return payloads;
+    }
+
+    private static PartnerPayload payload(
+        PartnerSyncFeed feed,
+        String partnerBpn,
+        long fromVersion,
+        long toVersion,
+        int items,
+        byte[] lines
+    ) throws IOException {
+        String name = feed + ":" + partnerBpn + ":" + fromVersion + ":" + toVersion;
+        String idempotencyKey = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(lines);
+        }
+        return new PartnerPayload(idempotencyKey, partnerBpn, feed, fromVersion, toVersion, items, body.toByteArray());
+    }
+
+    private Counter payloadCounter(PartnerSyncFeed feed, String result) {
+        return Counter
+            .builder("partner.sync.payloads")
+            .tag("feed", feed.name())
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ChangeLoader<T> {
+        List<FeedChange<T>> load(String partnerBpn, long afterVersion);
+    }
+
+    private record FeedChange<T>(long version, UUID documentId, T before, T after) {}
+
+    private record Delta(long firstVersion, byte[] line) {}
+}
@@ -0,0 +1,141 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.ReferenceDataCacheProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CompanyEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandCategoryEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UnitMeasureEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CompanyRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.DemandCategoryRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.UnitMeasureRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ReferenceDataCacheService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.ExpiringCache;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.TransactionUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class ReferenceDataCacheServiceImpl implements ReferenceDataCacheService {
+
+    private static final String UPDATE_COMPANY_COUNTER_SQL =
+        "UPDATE company_base_data SET counter = counter + ? WHERE id = ?";
+
+    private final CompanyRepository companyRepository;
+    private final UnitMeasureRepository unitMeasureRepository;
+    private final DemandCategoryRepository demandCategoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ExpiringCache<UUID, CompanyEntity> companies;
+    private final ExpiringCache<UUID, UnitMeasureEntity> unitMeasures;
+    private final ExpiringCache<UUID, DemandCategoryEntity> demandCategories;
+
+    private final Map<UUID, Long> pendingCompanyUses = new ConcurrentHashMap<>();
+
+    public ReferenceDataCacheServiceImpl(
+        ReferenceDataCacheProperties properties,
+        MeterRegistry meterRegistry,
+        CompanyRepository companyRepository,
+        UnitMeasureRepository unitMeasureRepository,
+        DemandCategoryRepository demandCategoryRepository,
+        JdbcTemplate jdbcTemplate
+    ) {
+        this.companyRepository = companyRepository;
+        this.unitMeasureRepository = unitMeasureRepository;
+        this.demandCategoryRepository = demandCategoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+
+        int maxEntries = properties.maxEntries();
+        this.companies = new ExpiringCache<>("company", maxEntries, properties.ttl(), meterRegistry);
+        this.unitMeasures = new ExpiringCache<>("unitMeasure", maxEntries, properties.ttl(), meterRegistry);
+        this.demandCategories = new ExpiringCache<>("demandCategory", maxEntries, properties.ttl(), meterRegistry);
+    }
+
+    @Override
+    public Optional<CompanyEntity> findCompany(UUID id) {
+        return companies.get(id, companyRepository::findById);
+    }
+
+    @Override
+    public Optional<UnitMeasureEntity> findUnitMeasure(UUID id) {
+        return unitMeasures.get(id, unitMeasureRepository::findById);
+    }
+
+    @Override
+    public Optional<DemandCategoryEntity> findDemandCategory(UUID id) {
+        return demandCategories.get(id, demandCategoryRepository::findById);
+    }
+
+    @Override
+    public void evictCompany(UUID id) {
+        TransactionUtil.afterCommit(() -> companies.remove(id));
+    }
+
+    @Override
+    public void recordCompanyUse(UUID id) {
+        if (id != null) {
+            pendingCompanyUses.merge(id, 1L, Long::sum);
+        }
+    }
+
+    @Override
+    @Scheduled(
+        fixedDelayString = "${app.reference-data-cache.popularity-flush-millis:30000}",
+        initialDelayString = "${app.reference-data-cache.popularity-flush-millis:30000}"
+    )
+    public void flushCompanyUses() {
+        List<Object[]> batch = new ArrayList<>();
+        for (UUID id : List.copyOf(pendingCompanyUses.keySet())) {
+            // remove() hands over the accumulated uses atomically, later uses start a new entry
+            Long uses = pendingCompanyUses.remove(id);
+            if (uses != null) {
+                batch.add(new Object[] { uses, id });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_COMPANY_COUNTER_SQL, batch);
+        } catch (RuntimeException e) {
+            log.warn("Could not flush usage counters of {} companies, retrying on next run", batch.size(), e);
+            batch.forEach(row -> pendingCompanyUses.merge((UUID) row[1], (Long) row[0], Long::sum));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushCompanyUses();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.SchedulerProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ScheduledJobService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import javax.sql.DataSource;
+
+/**
+ * Elects the node that runs a job with a PostgreSQL session advisory lock. The lock lives on a connection held
+ * for the whole run, so it is released when the run ends or the node dies with its connection. A running job
+ * therefore uses two pooled connections, the lock connection and the one its work runs on; the datasource pool
+ * is sized for that, see spring.datasource.hikari.maximum-pool-size.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduledJobServiceImpl implements ScheduledJobService {
+
+    // First key of the two-key advisory locks of the jobs, the second key is the hash of the job name
+    private static final int LOCK_NAMESPACE = 0x44434d53;
+
+    private static final String REGISTER_SQL =
+        "INSERT INTO scheduled_job (job_name) VALUES (?) ON CONFLICT (job_name) DO NOTHING";
+
+    private static final String START_SQL =
+        """
+        UPDATE scheduled_job SET last_started_at = now(), last_node = ?
+        WHERE job_name = ? AND (last_started_at IS NULL OR last_started_at <= now() - make_interval(secs => ?))""";
+
+    private static final String FINISH_SQL =
+        """
+        UPDATE scheduled_job
+        SET last_finished_at = now(), last_result = ?, last_duration_ms = ?, last_items = ?
+        WHERE job_name = ?""";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void runExclusively(String jobName, Duration period, IntSupplier job) {
+        try {
+            jitter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            if (!advisoryLock(connection, "pg_try_advisory_lock", jobName)) {
+                skipped(jobName, "locked");
+                return;
+            }
+            try {
+                jdbcTemplate.update(REGISTER_SQL, jobName);
+                if (jdbcTemplate.update(START_SQL, nodeName(), jobName, period.toSeconds() / 2.0) == 0) {
+                    skipped(jobName, "recent");
+                    return;
+                }
+                run(jobName, job);
+            } finally {
+                unlock(connection, jobName);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not elect a node for job {}, skipping this run", jobName, e);
+            skipped(jobName, "unavailable");
+        }
+    }
+
+    private void run(String jobName, IntSupplier job) {
+        long start = System.nanoTime();
+        String result = "success";
+        int items = 0;
+        try {
+            items = job.getAsInt();
+            Counter.builder("scheduler.job.items").tag("job", jobName).register(meterRegistry).increment(items);
+        } catch (RuntimeException e) {
+            result = "failure";
+            Counter.builder("scheduler.job.failures").tag("job", jobName).register(meterRegistry).increment();
+            log.error("Scheduled job {} failed", jobName, e);
+        } finally {
+            long duration = System.nanoTime() - start;
+            Timer
+                .builder("scheduler.job.duration")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+            jdbcTemplate.update(FINISH_SQL, result, TimeUnit.NANOSECONDS.toMillis(duration), items, jobName);
+        }
+    }
+
+    private void jitter() throws InterruptedException {
+        long maxJitterMillis = properties.maxJitter() == null ? 0 : properties.maxJitter().toMillis();
+        if (maxJitterMillis > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+        }
+    }
+
+    /**
+     * A pooled connection that still holds the lock would keep the job from running on any node until the pool
+     * recycles it, so a connection that could not release the lock is evicted from the pool instead.
+     */
+    private void unlock(Connection connection, String jobName) throws SQLException {
+        boolean released;
+        try {
+            released = advisoryLock(connection, "pg_advisory_unlock", jobName);
+        } catch (SQLException e) {
+            log.warn("Could not release the lock of job {}, evicting its connection", jobName, e);
+            released = false;
+        }
+        if (!released) {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            } else {
+                connection.abort(Runnable::run);
+            }
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String function, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?, ?)")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setInt(2, jobName.hashCode());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void skipped(String jobName, String reason) {
+        Counter
+            .builder("scheduler.job.skipped")
+            .tag("job", jobName)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+        log.debug("Skipped scheduled job {}: {}", jobName, reason);
+    }
+
+    private static String nodeName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -35,6 +35,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UserEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.UserRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.SecurityTokenService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.StatusRecalculationService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.TokenIntrospectionCacheService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -55,7 +57,9 @@ public class SecurityTokenServiceImpl implements SecurityTokenService {
 
     private final WebClient keycloakWebClient;
 
-    private final BottleneckManagerImpl statusManager;
+    private final StatusRecalculationService statusRecalculationService;
+
+    private final TokenIntrospectionCacheService tokenIntrospectionCacheService;
 
     private final UserRepository userRepository;
     private static final String CLIENT_ID = "client_id";
@@ -160,6 +164,10 @@ public class SecurityTokenServiceImpl implements SecurityTokenService {
 
     @Override
     public IntrospectTokenResponse introspectToken(String token) {
+        return tokenIntrospectionCacheService.get(token, this::introspectTokenAtKeycloak);
+    }
+
+    private IntrospectTokenResponse introspectTokenAtKeycloak(String token) {
         return keycloakWebClient
             .post()
             .uri(introspectTokenUrl())
@@ -187,12 +195,14 @@ public class SecurityTokenServiceImpl implements SecurityTokenService {
     @Override
     public ResponseEntity<User> generateUserRefreshedResponseEntity(String token) {
         TokenResponse refreshToken = refreshToken(token);
+        tokenIntrospectionCacheService.invalidate(token);
         return new ResponseEntity<>(fetchUser(refreshToken), HttpStatus.OK);
     }
 
     @Override
     public ResponseEntity<Void> generateLogoutResponseEntity(String refreshToken) {
         logoutToken(refreshToken);
+        tokenIntrospectionCacheService.invalidate(refreshToken);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -263,8 +273,8 @@ public class SecurityTokenServiceImpl implements SecurityTokenService {
         user.setRefreshToken(refreshToken);
         user.setExpiresIn(expiresIn);
         user.setCompanyID(userEntity.getCompanyID().toString());
-        statusManager.calculateBottleneck(user.getUserID(), false);
-        statusManager.calculateTodos(user.getUserID());
+        // Login serves the last calculated statuses, the recalculation runs in the background
+        statusRecalculationService.refreshIfStale(user.getUserID());
         return user;
     }
 
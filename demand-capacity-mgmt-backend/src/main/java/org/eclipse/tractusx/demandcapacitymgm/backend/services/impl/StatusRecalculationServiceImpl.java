@@ -0,0 +1,129 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.StatusRecalculationProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.StatusRecalculationService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.TransactionUtil;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class StatusRecalculationServiceImpl implements StatusRecalculationService {
+
+    private final BottleneckManagerImpl statusManager;
+    private final long debounceMillis;
+    private final long staleAfterNanos;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Map<String, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    // Users whose pending recalculation was caused by a change and logs the status changes
+    private final Set<String> withLogs = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> calculatedAt = new ConcurrentHashMap<>();
+
+    public StatusRecalculationServiceImpl(
+        BottleneckManagerImpl statusManager,
+        StatusRecalculationProperties properties
+    ) {
+        this.statusManager = statusManager;
+        this.debounceMillis = Math.max(properties.debounceMillis(), 1);
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(properties.staleAfterMillis(), 0));
+        this.executor =
+            new ScheduledThreadPoolExecutor(
+                Math.max(properties.poolSize(), 1),
+                new CustomizableThreadFactory("status-recalculation-")
+            );
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void markDirty(String userID) {
+        TransactionUtil.afterCommit(() -> {
+            withLogs.add(userID);
+            schedule(userID);
+        });
+    }
+
+    @Override
+    public void refreshIfStale(String userID) {
+        Long lastCalculated = calculatedAt.get(userID);
+        if (lastCalculated != null && System.nanoTime() - lastCalculated < staleAfterNanos) {
+            return;
+        }
+        schedule(userID);
+    }
+
+    @Override
+    public boolean isPending(String userID) {
+        return pending.containsKey(userID) || running.contains(userID);
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pending.size() + running.size();
+    }
+
+    private void schedule(String userID) {
+        pending.computeIfAbsent(
+            userID,
+            id -> executor.schedule(() -> recalculate(id), debounceMillis, TimeUnit.MILLISECONDS)
+        );
+    }
+
+    private void recalculate(String userID) {
+        pending.remove(userID);
+        if (!running.add(userID)) {
+            // A recalculation for this user is still in flight, try again after it finished
+            schedule(userID);
+            return;
+        }
+        try {
+            statusManager.calculateBottleneck(userID, withLogs.remove(userID));
+            statusManager.calculateTodos(userID);
+            calculatedAt.put(userID, System.nanoTime());
+        } catch (Exception e) {
+            log.error("Status recalculation failed for user {}", userID, e);
+        } finally {
+            running.remove(userID);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
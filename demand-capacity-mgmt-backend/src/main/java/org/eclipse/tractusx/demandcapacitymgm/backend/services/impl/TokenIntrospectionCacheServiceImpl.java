@@ -0,0 +1,110 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import eclipse.tractusx.demandcapacitymgm.specification.model.IntrospectTokenResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.TokenIntrospectionCacheProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.TokenIntrospectionCacheService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.ExpiringCache;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keeps introspection results keyed by the SHA-256 hash of the token, so the tokens themselves are
+ * never held in memory.
+ */
+@Service
+@Slf4j
+public class TokenIntrospectionCacheServiceImpl implements TokenIntrospectionCacheService {
+
+    private static final String CACHE_NAME = "tokenIntrospection";
+
+    private final Duration ttl;
+    private final ExpiringCache<String, IntrospectTokenResponse> introspections;
+
+    public TokenIntrospectionCacheServiceImpl(
+        TokenIntrospectionCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.ttl = properties.ttl();
+        this.introspections = new ExpiringCache<>(CACHE_NAME, properties.maxEntries(), ttl, meterRegistry);
+    }
+
+    @Override
+    public IntrospectTokenResponse get(String token, Function<String, IntrospectTokenResponse> introspector) {
+        Instant now = Instant.now();
+        return introspections
+            .get(
+                hash(token),
+                key -> Optional.ofNullable(introspector.apply(token)),
+                response -> Duration.between(now, validUntil(token, response, now))
+            )
+            .orElse(null);
+    }
+
+    @Override
+    public void invalidate(String token) {
+        introspections.remove(hash(token));
+    }
+
+    /**
+     * An active token is cached until its exp claim. Tokens that cannot be decoded, and inactive ones,
+     * are only cached for the ttl.
+     */
+    private Instant validUntil(String token, IntrospectTokenResponse response, Instant now) {
+        Instant validUntil = now.plus(ttl);
+        if (response == null || !Boolean.TRUE.equals(response.getActive())) {
+            return validUntil;
+        }
+        try {
+            Date expiresAt = JWT.decode(token).getExpiresAt();
+            if (expiresAt != null && expiresAt.toInstant().isBefore(validUntil)) {
+                return expiresAt.toInstant();
+            }
+        } catch (JWTDecodeException e) {
+            log.debug("Introspected token is not a JWT, caching it for the ttl");
+        }
+        return validUntil;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UnitMeasureEntity
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.UnitMeasureRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.UnityOfMeasureService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.RequestContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -42,10 +43,11 @@ import java.util.stream.Collectors;
 public class UnityOfMeasureServiceImpl implements UnityOfMeasureService {
 
     private final UnitMeasureRepository unitMeasureRepository;
+    private final RequestContext requestContext;
 
     @Override
     public UnitMeasure findById(UUID id) {
-        Optional<UnitMeasureEntity> unitMeasure = unitMeasureRepository.findById(id);
+        Optional<UnitMeasureEntity> unitMeasure = requestContext.findUnitMeasure(id);
 
         if (unitMeasure.isEmpty()) {
             throw new BadRequestException("7", "23");
@@ -23,42 +23,97 @@
 package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
 
 import eclipse.tractusx.demandcapacitymgm.specification.model.*;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.CapacityGroupIngestionProperties;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CapacityGroupEntity;
-import org.eclipse.tractusx.demandcapacitymgm.backend.entities.MaterialDemandEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.WeekBasedCapacityGroupChangeEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.WeekBasedCapacityGroupEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.ChangeOperation;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.PartnerSyncFeed;
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundException;
-import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.MaterialDemandRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.PartnerSyncProgressRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedCapacityGroupChangeRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedCapacityGroupRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedCapacityGroupRepositoryCustom.IngestedChunk;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerSyncService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.WeekBasedCapacityGroupService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.DataConverterUtil;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-@RequiredArgsConstructor
 @Service
 @Slf4j
 public class WeekBasedCapacityGroupServiceImpl implements WeekBasedCapacityGroupService {
 
     private final WeekBasedCapacityGroupRepository weekBasedCapacityGroupRepository;
-
-    private final MaterialDemandRepository materialDemandRepository;
+    private final WeekBasedCapacityGroupChangeRepository weekBasedCapacityGroupChangeRepository;
+    private final PartnerSyncProgressRepository partnerSyncProgressRepository;
 
     private final LoggingHistoryService loggingHistoryService;
+    private final PartnerSyncService partnerSyncService;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Counter ingestedRows;
+    private final Counter assignedSeries;
+    private final Timer chunkTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public WeekBasedCapacityGroupServiceImpl(
+        WeekBasedCapacityGroupRepository weekBasedCapacityGroupRepository,
+        WeekBasedCapacityGroupChangeRepository weekBasedCapacityGroupChangeRepository,
+        PartnerSyncProgressRepository partnerSyncProgressRepository,
+        LoggingHistoryService loggingHistoryService,
+        PartnerSyncService partnerSyncService,
+        PlatformTransactionManager transactionManager,
+        CapacityGroupIngestionProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.weekBasedCapacityGroupRepository = weekBasedCapacityGroupRepository;
+        this.weekBasedCapacityGroupChangeRepository = weekBasedCapacityGroupChangeRepository;
+        this.partnerSyncProgressRepository = partnerSyncProgressRepository;
+        this.loggingHistoryService = loggingHistoryService;
+        this.partnerSyncService = partnerSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(properties.chunkSize(), 1);
+
+        this.ingestedRows = Counter.builder("capacity.group.ingestion.rows").register(meterRegistry);
+        this.assignedSeries = Counter.builder("capacity.group.ingestion.assigned.series").register(meterRegistry);
+        this.chunkTimer = Timer.builder("capacity.group.ingestion.chunk").register(meterRegistry);
+        Gauge
+            .builder("capacity.group.ingestion.lag", lagSeconds, AtomicLong::get)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
 
     @Override
+    @Transactional
     public void createWeekBasedCapacityGroup(
         List<WeekBasedCapacityGroupDtoRequest> weekBasedCapacityGroupRequestList,
         String userID
     ) {
+        weekBasedCapacityGroupChangeRepository.lockForAppend();
+        List<WeekBasedCapacityGroupChangeEntity> changes = new ArrayList<>();
 		weekBasedCapacityGroupRequestList.forEach(weekBasedCapacityGroupRequest -> {
 			validateFields(weekBasedCapacityGroupRequest.getWeekBasedCapacityGroupRequest());
 			WeekBasedCapacityGroupEntity weekBasedCapacityGroup = convertEntity(
@@ -66,7 +121,17 @@ public class WeekBasedCapacityGroupServiceImpl implements WeekBasedCapacityGroup
 			);
 			postLogs(weekBasedCapacityGroup.getId().toString());
 			weekBasedCapacityGroupRepository.save(weekBasedCapacityGroup);
+			changes.add(
+				convertChange(
+					weekBasedCapacityGroup.getId(),
+					null,
+					weekBasedCapacityGroup.getWeekBasedCapacityGroup(),
+					userID
+				)
+			);
 		});
+        weekBasedCapacityGroupChangeRepository.saveAll(changes);
+        registerPartners(changes);
     }
 
     private void postLogs(String weekBasedCapacityGroupId) {
@@ -76,52 +141,40 @@ public class WeekBasedCapacityGroupServiceImpl implements WeekBasedCapacityGroup
         loggingHistoryRequest.setIsFavorited(false);
         loggingHistoryRequest.setEventDescription("WEEKLY_BASED_CAPACITY_GROUP Created");
         loggingHistoryRequest.setEventType(EventType.GENERAL_EVENT.toString());
-        loggingHistoryService.createLog(loggingHistoryRequest);
+        loggingHistoryService.postLog(loggingHistoryRequest);
     }
 
+    /**
+     * Processes the received rows chunk by chunk until none is left. Every chunk runs in its own
+     * transaction, concurrent runs skip the rows claimed by each other.
+     */
     @Override
-    public void receiveWeekBasedCapacityGroup() {
+    public int receiveWeekBasedCapacityGroup() {
+        int chunks = 0;
+        int rows = 0;
         try {
-			List<WeekBasedCapacityGroupEntity> weekBasedCapacityGroupEntities =
-				weekBasedCapacityGroupRepository.getAllByViewed(false);
-
-			weekBasedCapacityGroupEntities.forEach(weekBasedCapacityGroupEntity -> {
-				WeekBasedCapacityGroupRequest weekBasedCapacityGroup =
-					weekBasedCapacityGroupEntity.getWeekBasedCapacityGroup();
-
-				if (weekBasedCapacityGroup != null) {
-					List<LinkedDemandSeriesRequest> likedDemandSeriesList =
-						weekBasedCapacityGroup.getLinkedDemandSeries();
-
-					if (likedDemandSeriesList != null) {
-						for (LinkedDemandSeriesRequest likedDemandSeries : likedDemandSeriesList) {
-							String materialNumberCustomer = likedDemandSeries.getMaterialNumberCustomer();
-							String customerLocation = likedDemandSeries.getCustomerLocation();
-							String demandCategoryCode = likedDemandSeries.getDemandCategory().getDemandCategory();
-
-							List<MaterialDemandEntity> matchingDemands =
-								materialDemandRepository.findAllByMaterialNumberCustomerAndDemandSeriesCustomerLocationAndDemandCategory(
-                                    materialNumberCustomer,
-                                    customerLocation,
-                                    demandCategoryCode
-                                );
-
-							matchingDemands.forEach(materialDemandEntity ->
-								materialDemandEntity
-									.getDemandSeries()
-									.forEach(demandSeries -> {
-										demandSeries.setCapacityGroupId(weekBasedCapacityGroup.getCapacityGroupId());
-									}));
-
-							materialDemandRepository.saveAll(matchingDemands);
-						}
-					}
-				}
-			});
-            // updateStatus(); TODO: remove the comment when the EDC is ready
+            IngestedChunk chunk;
+            do {
+                long start = System.nanoTime();
+                chunk =
+                    transactionTemplate.execute(status -> weekBasedCapacityGroupRepository.ingestUnviewed(chunkSize));
+                if (chunk == null) {
+                    break;
+                }
+                chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                ingestedRows.increment(chunk.claimedRows());
+                rows += chunk.claimedRows();
+                assignedSeries.increment(chunk.assignedSeries());
+                chunks++;
+            } while (chunk.claimedRows() == chunkSize);
         } catch (Exception e) {
-            //Probably sql initialize error here.
+            log.error("Processing received week based capacity groups failed after {} chunks", chunks);
+            throw e;
+        } finally {
+            lagSeconds.set(weekBasedCapacityGroupRepository.getUnviewedLagSeconds());
         }
+        // updateStatus(); TODO: remove the comment when the EDC is ready
+        return rows;
     }
 
     @Override
@@ -130,7 +183,9 @@ public class WeekBasedCapacityGroupServiceImpl implements WeekBasedCapacityGroup
     }
 
     @Override
-    public void sendWeekBasedCapacityGroup() {}
+    public int sendWeekBasedCapacityGroup() {
+        return partnerSyncService.publishWeekBasedCapacityGroups();
+    }
 
     @Override
     public void createWeekBasedCapacityGroupRequestFromEntity(CapacityGroupEntity capacityGroupEntity, String userID) {
@@ -143,19 +198,61 @@ public class WeekBasedCapacityGroupServiceImpl implements WeekBasedCapacityGroup
     }
 
     @Override
+    @Transactional
     public WeekBasedCapacityGroupDtoResponse updateWeekBasedCapacityGroup(
         String id,
         WeekBasedCapacityGroupDtoRequest weekBasedCapacityGroupRequest,
         String userID
     ) {
+        UUID weekBasedCapacityGroupId = UUID.fromString(id);
+        weekBasedCapacityGroupChangeRepository.lockForAppend();
+        WeekBasedCapacityGroupRequest before = weekBasedCapacityGroupRepository
+            .findFirstById(weekBasedCapacityGroupId)
+            .map(WeekBasedCapacityGroupEntity::getWeekBasedCapacityGroup)
+            .orElse(null);
+
         WeekBasedCapacityGroupEntity weekBasedCapacityGroupEntity = convertWeekMaterialDemandToEntity(
             weekBasedCapacityGroupRequest
         );
-        weekBasedCapacityGroupEntity.setId(UUID.fromString(id));
+        weekBasedCapacityGroupEntity.setId(weekBasedCapacityGroupId);
         weekBasedCapacityGroupEntity = weekBasedCapacityGroupRepository.save(weekBasedCapacityGroupEntity);
+        WeekBasedCapacityGroupChangeEntity change = weekBasedCapacityGroupChangeRepository.save(
+            convertChange(
+                weekBasedCapacityGroupId,
+                before,
+                weekBasedCapacityGroupEntity.getWeekBasedCapacityGroup(),
+                userID
+            )
+        );
+        registerPartners(List.of(change));
         return convertToWeekBasedCapacityGroupDto(weekBasedCapacityGroupEntity);
     }
 
+    private WeekBasedCapacityGroupChangeEntity convertChange(
+        UUID weekBasedCapacityGroupId,
+        WeekBasedCapacityGroupRequest before,
+        WeekBasedCapacityGroupRequest after,
+        String userID
+    ) {
+        return WeekBasedCapacityGroupChangeEntity
+            .builder()
+            .weekBasedCapacityGroupId(weekBasedCapacityGroupId)
+            .operation(before == null ? ChangeOperation.CREATED : ChangeOperation.UPDATED)
+            .before(before)
+            .after(after)
+            .partnerBpn(after == null ? null : after.getCustomer())
+            .changedBy(UUIDUtil.checkValidUUID(userID) ? UUID.fromString(userID) : null)
+            .changedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private void registerPartners(List<WeekBasedCapacityGroupChangeEntity> changes) {
+        partnerSyncProgressRepository.registerPartners(
+            PartnerSyncFeed.WEEK_BASED_CAPACITY_GROUP,
+            changes.stream().map(WeekBasedCapacityGroupChangeEntity::getPartnerBpn).filter(Objects::nonNull).toList()
+        );
+    }
+
     private WeekBasedCapacityGroupEntity convertWeekMaterialDemandToEntity(
         WeekBasedCapacityGroupDtoRequest weekBasedCapacityGroupResponses
     ) {
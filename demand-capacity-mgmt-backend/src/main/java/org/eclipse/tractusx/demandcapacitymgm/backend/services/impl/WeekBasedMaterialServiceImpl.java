@@ -26,19 +26,30 @@ import eclipse.tractusx.demandcapacitymgm.specification.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.MaterialDemandEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.WeekBasedMaterialDemandChangeEntity;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.WeekBasedMaterialDemandEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.ChangeOperation;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.PartnerSyncFeed;
 import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.PartnerSyncProgressRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedMaterialDemandChangeRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.WeekBasedMaterialDemandRepository;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.PartnerSyncService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.WeekBasedMaterialService;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.DataConverterUtil;
 import org.eclipse.tractusx.demandcapacitymgm.backend.utils.UUIDUtil;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -46,19 +57,23 @@ import java.util.UUID;
 @Slf4j
 public class WeekBasedMaterialServiceImpl implements WeekBasedMaterialService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final WeekBasedMaterialDemandRepository weekBasedMaterialDemandRepository;
+    private final WeekBasedMaterialDemandChangeRepository weekBasedMaterialDemandChangeRepository;
     private final LoggingHistoryService loggingHistoryService;
-    private List<WeekBasedMaterialDemandResponseDto> oldWeekBasedMaterialDemands;
-    private List<WeekBasedMaterialDemandResponseDto> newWeekBasedMaterialDemands;
+    private final PartnerSyncProgressRepository partnerSyncProgressRepository;
+    private final PartnerSyncService partnerSyncService;
 
     @Override
+    @Transactional
     public void createWeekBasedMaterial(
         List<WeekBasedMaterialDemandRequestDto> weekBasedMaterialDemandRequestDtoList,
         String userID
     ) {
-		oldWeekBasedMaterialDemands = DataConverterUtil.convertToWeekBasedMaterialDemandDtoList(
-			weekBasedMaterialDemandRepository.findAll()
-		);
+        weekBasedMaterialDemandChangeRepository.lockForAppend();
+        List<WeekBasedMaterialDemandChangeEntity> changes = new ArrayList<>();
 		weekBasedMaterialDemandRequestDtoList.forEach(weekBasedMaterialDemandRequestDto -> {
 			validateFields(weekBasedMaterialDemandRequestDto);
 
@@ -67,10 +82,17 @@ public class WeekBasedMaterialServiceImpl implements WeekBasedMaterialService {
 			);
 			postLogs(weekBasedMaterialDemand.getId().toString());
 			weekBasedMaterialDemandRepository.save(weekBasedMaterialDemand);
+			changes.add(
+				convertChange(
+					weekBasedMaterialDemand.getId(),
+					null,
+					weekBasedMaterialDemand.getWeekBasedMaterialDemand(),
+					userID
+				)
+			);
 		});
-		newWeekBasedMaterialDemands = DataConverterUtil.convertToWeekBasedMaterialDemandDtoList(
-			weekBasedMaterialDemandRepository.findAll()
-        );
+        weekBasedMaterialDemandChangeRepository.saveAll(changes);
+        registerPartners(changes);
     }
 
     private void postLogs(String weekBasedMaterialDemandId) {
@@ -82,26 +104,80 @@ public class WeekBasedMaterialServiceImpl implements WeekBasedMaterialService {
         //TODO: Add Event
         loggingHistoryRequest.setEventType(EventType.GENERAL_EVENT.toString());
 
-        loggingHistoryService.createLog(loggingHistoryRequest);
+        loggingHistoryService.postLog(loggingHistoryRequest);
     }
 
     @Override
-    public void sendWeekBasedMaterial() {}
+    public int sendWeekBasedMaterial() {
+        return partnerSyncService.publishWeekBasedMaterialDemands();
+    }
 
     @Override
-    public void receiveWeekBasedMaterial() {
+    public int receiveWeekBasedMaterial() {
 		List<WeekBasedMaterialDemandEntity> weekBasedMaterialDemandEntities =
 			weekBasedMaterialDemandRepository.getAllByViewed(false);
+        return weekBasedMaterialDemandEntities.size();
     }
 
     @Override
-    public List<WeekBasedMaterialDemandResponseDto> getOldWeekBasedMaterialDemands() {
-        return oldWeekBasedMaterialDemands;
+    public WeekBasedMaterialDemandChangePage getWeekBasedMaterialDemandChanges(Long since, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        long fromVersion = since == null ? 0 : since;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE || fromVersion < 0) {
+            throw new BadRequestException("1", "10");
+        }
+        // One extra row tells whether more changes follow
+        List<WeekBasedMaterialDemandChangeEntity> changes =
+            weekBasedMaterialDemandChangeRepository.findByVersionGreaterThanOrderByVersionAsc(
+                fromVersion,
+                PageRequest.of(0, pageSize + 1)
+            );
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        WeekBasedMaterialDemandChangePage page = new WeekBasedMaterialDemandChangePage();
+        page.setChanges(changes.stream().map(this::convertChangeDto).toList());
+        page.setLastVersion(changes.isEmpty() ? fromVersion : changes.get(changes.size() - 1).getVersion());
+        page.setHasMore(hasMore);
+        return page;
     }
 
-    @Override
-    public List<WeekBasedMaterialDemandResponseDto> getUpdatedWeekBasedMaterialDemands() {
-        return newWeekBasedMaterialDemands;
+    private WeekBasedMaterialDemandChangeEntity convertChange(
+        UUID weekBasedMaterialDemandId,
+        WeekBasedMaterialDemandRequest before,
+        WeekBasedMaterialDemandRequest after,
+        String userID
+    ) {
+        return WeekBasedMaterialDemandChangeEntity
+            .builder()
+            .weekBasedMaterialDemandId(weekBasedMaterialDemandId)
+            .operation(before == null ? ChangeOperation.CREATED : ChangeOperation.UPDATED)
+            .before(before)
+            .after(after)
+            .partnerBpn(after == null ? null : after.getSupplier())
+            .changedBy(UUIDUtil.checkValidUUID(userID) ? UUID.fromString(userID) : null)
+            .changedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private void registerPartners(List<WeekBasedMaterialDemandChangeEntity> changes) {
+        partnerSyncProgressRepository.registerPartners(
+            PartnerSyncFeed.WEEK_BASED_MATERIAL_DEMAND,
+            changes.stream().map(WeekBasedMaterialDemandChangeEntity::getPartnerBpn).filter(Objects::nonNull).toList()
+        );
+    }
+
+    private WeekBasedMaterialDemandChange convertChangeDto(WeekBasedMaterialDemandChangeEntity changeEntity) {
+        WeekBasedMaterialDemandChange change = new WeekBasedMaterialDemandChange();
+        change.setVersion(changeEntity.getVersion());
+        change.setWeekBasedMaterialDemandId(changeEntity.getWeekBasedMaterialDemandId().toString());
+        change.setOperation(WeekBasedMaterialDemandChange.OperationEnum.fromValue(changeEntity.getOperation().name()));
+        change.setChangedAt(changeEntity.getChangedAt().toString());
+        change.setBefore(changeEntity.getBefore());
+        change.setAfter(changeEntity.getAfter());
+        return change;
     }
 
     private WeekBasedMaterialDemandResponseDto convertToWeekBasedCapacityGroupDto(
@@ -116,22 +192,33 @@ public class WeekBasedMaterialServiceImpl implements WeekBasedMaterialService {
     }
 
     @Override
+    @Transactional
     public WeekBasedMaterialDemandResponseDto updateWeekBasedMaterial(
         String id,
         WeekBasedMaterialDemandRequestDto weekBasedCapacityGroupRequest,
         String userID
     ) {
-		oldWeekBasedMaterialDemands = DataConverterUtil.convertToWeekBasedMaterialDemandDtoList(
-			weekBasedMaterialDemandRepository.findAll()
-		);
+        UUID weekBasedMaterialDemandId = UUID.fromString(id);
+        weekBasedMaterialDemandChangeRepository.lockForAppend();
+        WeekBasedMaterialDemandRequest before = weekBasedMaterialDemandRepository
+            .findFirstById(weekBasedMaterialDemandId)
+            .map(WeekBasedMaterialDemandEntity::getWeekBasedMaterialDemand)
+            .orElse(null);
+
         WeekBasedMaterialDemandEntity weekBasedCapacityGroupEntity = convertWeekMaterialDemandToEntity(
             weekBasedCapacityGroupRequest
         );
-        weekBasedCapacityGroupEntity.setId(UUID.fromString(id));
+        weekBasedCapacityGroupEntity.setId(weekBasedMaterialDemandId);
         weekBasedCapacityGroupEntity = weekBasedMaterialDemandRepository.save(weekBasedCapacityGroupEntity);
-		newWeekBasedMaterialDemands = DataConverterUtil.convertToWeekBasedMaterialDemandDtoList(
-			weekBasedMaterialDemandRepository.findAll()
-		);
+        WeekBasedMaterialDemandChangeEntity change = weekBasedMaterialDemandChangeRepository.save(
+            convertChange(
+                weekBasedMaterialDemandId,
+                before,
+                weekBasedCapacityGroupEntity.getWeekBasedMaterialDemand(),
+                userID
+            )
+        );
+        registerPartners(List.of(change));
         return convertToWeekBasedCapacityGroupDto(weekBasedCapacityGroupEntity);
     }
 
@@ -0,0 +1,87 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.LinkedCapacityGroupMaterialDemandEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.CapacityGroupWeekDemandRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.LinkedCapacityGroupMaterialDemandRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.WeekDemandAggregateService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.YearReportCacheService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class WeekDemandAggregateServiceImpl implements WeekDemandAggregateService {
+
+    private final CapacityGroupWeekDemandRepository weekDemandRepository;
+    private final LinkedCapacityGroupMaterialDemandRepository linkedCapacityGroupMaterialDemandRepository;
+    private final YearReportCacheService yearReportCacheService;
+
+    @Override
+    @Transactional
+    public void refreshCapacityGroups(Collection<UUID> capacityGroupIDs) {
+        if (capacityGroupIDs.isEmpty()) {
+            return;
+        }
+        Set<UUID> ids = Set.copyOf(capacityGroupIDs);
+        // The insert upserts on the week bucket key, so a concurrent refresh of the same group that slips in
+        // between our delete and insert overwrites its buckets instead of failing on the unique constraint.
+        weekDemandRepository.deleteByCapacityGroupIDs(ids);
+        weekDemandRepository.insertAggregatesForCapacityGroups(ids);
+        yearReportCacheService.invalidate(ids);
+    }
+
+    @Override
+    public Collection<UUID> findLinkedCapacityGroups(UUID materialDemandID) {
+        return linkedCapacityGroupMaterialDemandRepository
+            .findAllByMaterialDemandID(materialDemandID)
+            .stream()
+            .map(LinkedCapacityGroupMaterialDemandEntity::getCapacityGroupID)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    @Transactional
+    public void refreshForMaterialDemand(UUID materialDemandID) {
+        refreshCapacityGroups(findLinkedCapacityGroups(materialDemandID));
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        weekDemandRepository.deleteAllAggregates();
+        int buckets = weekDemandRepository.insertAllAggregates();
+        yearReportCacheService.invalidateAll();
+        log.info("Rebuilt {} capacity group week demand buckets", buckets);
+        return buckets;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.services.impl;
+
+import eclipse.tractusx.demandcapacitymgm.specification.model.YearReportResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.demandcapacitymgm.backend.config.YearReportCacheProperties;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.YearReportCacheService;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.ExpiringCache;
+import org.eclipse.tractusx.demandcapacitymgm.backend.utils.TransactionUtil;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class YearReportCacheServiceImpl implements YearReportCacheService {
+
+    private static final String CACHE_NAME = "yearReport";
+
+    // Reports do not expire, they are invalidated when the demands of their capacity group change
+    private final ExpiringCache<ReportKey, YearReportResponse> reports;
+
+    public YearReportCacheServiceImpl(YearReportCacheProperties properties, MeterRegistry meterRegistry) {
+        this.reports = new ExpiringCache<>(CACHE_NAME, properties.maxEntries(), null, meterRegistry);
+    }
+
+    @Override
+    public YearReportResponse get(
+        UUID capacityGroupID,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean ruled,
+        int percentage,
+        Supplier<YearReportResponse> generator
+    ) {
+        ReportKey key = new ReportKey(capacityGroupID, startDate, endDate, ruled, percentage);
+        return reports.get(key, reportKey -> Optional.ofNullable(generator.get())).orElse(null);
+    }
+
+    // Reports generated before the change commits would otherwise be cached again
+    @Override
+    public void invalidate(Collection<UUID> capacityGroupIDs) {
+        if (capacityGroupIDs.isEmpty()) {
+            return;
+        }
+        Set<UUID> ids = Set.copyOf(capacityGroupIDs);
+        TransactionUtil.afterCommit(() -> reports.removeIf(key -> ids.contains(key.capacityGroupID())));
+    }
+
+    @Override
+    public void invalidateAll() {
+        TransactionUtil.afterCommit(reports::clear);
+    }
+
+    private record ReportKey(
+        UUID capacityGroupID,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean ruled,
+        int percentage
+    ) {}
+}
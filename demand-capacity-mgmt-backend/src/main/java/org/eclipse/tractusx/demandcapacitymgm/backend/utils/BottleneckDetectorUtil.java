@@ -33,8 +33,11 @@ import org.eclipse.tractusx.demandcapacitymgm.backend.entities.bottlenecks.YearR
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventObjectType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.EventType;
 import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.NotFoundException;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.CapacityGroupWeeklyDemand;
 import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.*;
 import org.eclipse.tractusx.demandcapacitymgm.backend.services.BottleneckManager;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.LoggingHistoryWriterService;
 import org.springframework.stereotype.Component;
 
 import java.sql.Timestamp;
@@ -50,30 +53,34 @@ import java.util.stream.Collectors;
 @Component
 public class BottleneckDetectorUtil implements BottleneckManager {
 
-    private static final LocalDate TWO_WEEKS_FROM_NOW = LocalDate.now().plusWeeks(2);
     private final MaterialDemandRepository materialDemandRepository;
     private final CapacityGroupRepository capacityGroupRepository;
     private final StatusesRepository statusesRepository;
-    private final UserRepository userRepository;
     private final LinkedCapacityGroupMaterialDemandRepository matchedDemandsRepository;
-    private final LoggingHistoryRepository loggingRepository;
+    private final LoggingHistoryWriterService loggingHistoryWriterService;
 
     private final CapacityGroupRuleSetRepository cgRuleSetRepository;
 
     private final CompanyRuleSetRepository cdRuleSetRepository;
 
+    private final CapacityGroupWeekDemandRepository weekDemandRepository;
+
+    private final DemandCategoryRepository demandCategoryRepository;
+
+    private final RequestContext requestContext;
+
     @Override
     public void calculateTodos(String userID) {
-        userRepository
-            .findById(UUID.fromString(userID))
+        requestContext
+            .findUser(UUID.fromString(userID))
             .ifPresent(user -> {
-                List<MaterialDemandEntity> demands = fetchDemandsBasedOnRole(user, userID);
+                long todos = countTodosBasedOnRole(user);
 
                 StatusesEntity statusesEntity = statusesRepository
                     .findByUserID(UUID.fromString(userID))
                     .orElseGet(() -> generateNewEntity(userID));
 
-                statusesEntity.setTodosCount(demands.size());
+                statusesEntity.setTodosCount((int) todos);
                 statusesRepository.save(statusesEntity);
             });
     }
@@ -82,166 +89,126 @@ public class BottleneckDetectorUtil implements BottleneckManager {
         return StatusesEntity.builder().userID(UUID.fromString(userID)).build();
     }
 
-    private List<MaterialDemandEntity> fetchDemandsBasedOnRole(UserEntity user, String userID) {
-        List<MaterialDemandEntity> demands = new ArrayList<>();
-
+    // Customers have to fill demands without any non-zero value, suppliers have to link their unlinked demands
+    private long countTodosBasedOnRole(UserEntity user) {
+        if (user.getCompanyID() == null) {
+            return 0;
+        }
         if (user.getRole().equals(Role.CUSTOMER)) {
-            demands = materialDemandRepository
-                .findAll() //TODO SUPPLIER AQUI findbysupplierID
-                .stream()
-                .filter(
-                    d ->
-                        d
-                            .getDemandSeries()
-                            .stream()
-                            .allMatch(
-                                series ->
-                                    series.getDemandSeriesValues().stream().allMatch(value -> value.getDemand() == 0)
-                            )
-                )
-                .collect(Collectors.toList());
+            return materialDemandRepository.countAllZeroDemandsByCustomer(user.getCompanyID());
         } else if (user.getRole().equals(Role.SUPPLIER)) {
-            demands = materialDemandRepository
-                .findAll() //TODO CUSTOMER AQUI findbycustomerID
-                .stream()
-                .filter(d -> d.getLinkStatus() == EventType.UN_LINKED)
-                .collect(Collectors.toList());
+            return materialDemandRepository.countBySupplierAndLinkStatus(
+                user.getCompanyID(),
+                String.valueOf(EventType.UN_LINKED.ordinal())
+            );
         }
-        return demands;
+        return 0;
     }
 
     @Override
     public void calculateBottleneck(String userID, boolean postLog) {
         UserEntity user = getUser(userID).orElseThrow(() -> new IllegalArgumentException("User not found"));
         List<CapacityGroupEntity> capacityGroups = capacityGroupRepository.findByUserID(user.getId());
+        if (capacityGroups.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<CapacityGroupWeeklyDemand>> weeklyDemandsByGroup = matchedDemandsRepository
+            .sumWeeklyDemandsByCapacityGroups(
+                capacityGroups.stream().map(CapacityGroupEntity::getId).toList(),
+                LocalDate.now().plusWeeks(2)
+            )
+            .stream()
+            .collect(Collectors.groupingBy(CapacityGroupWeeklyDemand::getCapacityGroupId));
+
+        String username = user.getUsername();
+        List<LoggingHistoryEntity> logs = new ArrayList<>();
+        Pair<Integer, Integer> weeklyResults = Pair.of(0, 0);
 
         for (CapacityGroupEntity cgs : capacityGroups) {
-            Pair<Integer, Integer> weeklyResults = processCapacityGroup(userID, cgs, postLog);
-            updateAndLogStatus(userID, postLog, weeklyResults, cgs.getId());
+            weeklyResults =
+                processCapacityGroup(
+                    cgs,
+                    weeklyDemandsByGroup.getOrDefault(cgs.getId(), List.of()),
+                    postLog ? logs : null,
+                    username
+                );
+            if (postLog) {
+                logImprovementsAndDegradations(logs, username, weeklyResults, cgs.getId());
+            }
+        }
+        capacityGroupRepository.saveAll(capacityGroups);
+
+        // Statuses reflect the last capacity group processed, as before
+        StatusesEntity status = getStatus(userID).orElseGet(() -> createInitialStatus(userID));
+        status.setStatusImprovementCount(weeklyResults.getKey());
+        status.setStatusDegradationCount(weeklyResults.getValue());
+        statusesRepository.save(status);
+
+        if (!logs.isEmpty()) {
+            loggingHistoryWriterService.write(logs);
         }
     }
 
     private Optional<UserEntity> getUser(String userID) {
-        return userRepository.findById(UUID.fromString(userID));
+        return requestContext.findUser(UUID.fromString(userID));
     }
 
     private Optional<StatusesEntity> getStatus(String userID) {
         return statusesRepository.findByUserID(UUID.fromString(userID));
     }
 
-    private void updateAndLogStatus(String userID, boolean postLog, Pair<Integer, Integer> weeklyResults, UUID cgID) {
-        int improvements = weeklyResults.getKey();
-        int degradations = weeklyResults.getValue();
-
-        StatusesEntity status = getStatus(userID).orElseGet(() -> createInitialStatus(userID));
-        status.setStatusImprovementCount(improvements);
-        status.setStatusDegradationCount(degradations);
-        statusesRepository.save(status);
-
-        logImprovementsAndDegradations(userID, postLog, improvements, degradations, cgID);
-    }
-
     private void logImprovementsAndDegradations(
-        String userID,
-        boolean postLog,
-        int improvements,
-        int degradations,
+        List<LoggingHistoryEntity> logs,
+        String username,
+        Pair<Integer, Integer> weeklyResults,
         UUID cgID
     ) {
+        int improvements = weeklyResults.getKey();
+        int degradations = weeklyResults.getValue();
         if (improvements > 0) {
-            logEvent(
-                EventType.STATUS_IMPROVEMENT,
-                userID,
-                postLog,
-                "Status improved for " + improvements + " weeks",
-                cgID
+            logs.add(
+                createLog(
+                    EventType.STATUS_IMPROVEMENT,
+                    username,
+                    "Status improved for " + improvements + " weeks",
+                    cgID
+                )
             );
         }
         if (degradations > 0) {
-            logEvent(
-                EventType.STATUS_REDUCTION,
-                userID,
-                postLog,
-                "Status degraded for " + degradations + " weeks",
-                cgID
+            logs.add(
+                createLog(EventType.STATUS_REDUCTION, username, "Status degraded for " + degradations + " weeks", cgID)
             );
         }
     }
 
-    private Pair<Integer, Integer> processCapacityGroup(String userID, CapacityGroupEntity cgs, boolean postLog) {
-        List<LinkedCapacityGroupMaterialDemandEntity> matchedEntities = matchedDemandsRepository.findByCapacityGroupID(
-            cgs.getId()
-        );
-
-        int weeklyImprovements = 0;
-        int weeklyDegradations = 0;
-
-        for (LinkedCapacityGroupMaterialDemandEntity entity : matchedEntities) {
-            Pair<Integer, Integer> results = processEachDemandEntity(entity, userID, cgs, postLog);
-            weeklyImprovements += results.getKey();
-            weeklyDegradations += results.getValue();
-        }
-
-        updateCapacityGroupStatus(cgs, weeklyImprovements, weeklyDegradations);
-        return Pair.of(weeklyImprovements, weeklyDegradations);
-    }
-
-    private Pair<Integer, Integer> processEachDemandEntity(
-        LinkedCapacityGroupMaterialDemandEntity entity,
-        String userID,
-        CapacityGroupEntity cgs,
-        boolean postLog
-    ) {
-        int improvements = 0;
-        int degradations = 0;
-
-        Optional<MaterialDemandEntity> materialDemandOpt = materialDemandRepository.findById(
-            entity.getMaterialDemandID()
-        );
-        if (materialDemandOpt.isPresent()) {
-            MaterialDemandEntity materialDemand = materialDemandOpt.get();
-
-            for (DemandSeries demandSeries : materialDemand.getDemandSeries()) {
-                Pair<Integer, Integer> demandSeriesResults = processDemandSeries(demandSeries, cgs, userID, postLog);
-                improvements += demandSeriesResults.getKey();
-                degradations += demandSeriesResults.getValue();
-            }
-        }
-
-        return Pair.of(improvements, degradations);
-    }
-
-    private Pair<Integer, Integer> processDemandSeries(
-        DemandSeries demandSeries,
+    private Pair<Integer, Integer> processCapacityGroup(
         CapacityGroupEntity cgs,
-        String userID,
-        boolean postLog
+        List<CapacityGroupWeeklyDemand> weeklyDemands,
+        List<LoggingHistoryEntity> logs,
+        String username
     ) {
-        int improvements = 0;
-        int degradations = 0;
-
-        List<DemandSeriesValues> demandSeriesValuesList = demandSeries.getDemandSeriesValues();
-        Map<LocalDate, Double> weeklyDemands = getWeeklyDemands(Collections.singletonList(demandSeries));
-
-        for (Map.Entry<LocalDate, Double> entry : weeklyDemands.entrySet()) {
-            LocalDate week = entry.getKey();
-            Double demand = entry.getValue();
+        int weeklyImprovements = 0;
+        int weeklyDegradations = 0;
 
-            DemandSeriesValues demandSeriesValue = findOrCreateDemandSeriesValue(demandSeriesValuesList, week);
-            EventType eventType = determineEventType(cgs, demand);
+        for (CapacityGroupWeeklyDemand weeklyDemand : weeklyDemands) {
+            EventType eventType = determineEventType(cgs, weeklyDemand.getDemand());
 
             if (eventType == EventType.STATUS_REDUCTION) {
-                degradations++;
+                weeklyDegradations++;
             } else if (eventType == EventType.STATUS_IMPROVEMENT) {
-                improvements++;
+                weeklyImprovements++;
             }
 
-            if (postLog) {
-                logEvent(eventType, userID, true, null, cgs.getId());
+            String description = getEventDescription(eventType);
+            if (logs != null && description != null) {
+                logs.add(createLog(eventType, username, description, cgs.getId()));
             }
         }
 
-        return Pair.of(improvements, degradations);
+        updateCapacityGroupStatus(cgs, weeklyImprovements, weeklyDegradations);
+        return Pair.of(weeklyImprovements, weeklyDegradations);
     }
 
     private void updateCapacityGroupStatus(CapacityGroupEntity cgs, int weeklyImprovements, int weeklyDegradations) {
@@ -252,50 +219,18 @@ public class BottleneckDetectorUtil implements BottleneckManager {
         } else {
             cgs.setLinkStatus(EventType.GENERAL_EVENT);
         }
-        capacityGroupRepository.save(cgs);
-    }
-
-    private DemandSeriesValues findOrCreateDemandSeriesValue(
-        List<DemandSeriesValues> demandSeriesValuesList,
-        LocalDate week
-    ) {
-        return demandSeriesValuesList
-            .stream()
-            .filter(dsv -> dsv.getCalendarWeek().equals(week))
-            .findFirst()
-            .orElseGet(DemandSeriesValues::new);
-    }
-
-    private Map<LocalDate, Double> getWeeklyDemands(List<DemandSeries> matchedDemandSeries) {
-        return matchedDemandSeries
-            .stream()
-            .flatMap(demand -> demand.getDemandSeriesValues().stream())
-            .filter(value -> !value.getCalendarWeek().isBefore(TWO_WEEKS_FROM_NOW))
-            .collect(
-                Collectors.groupingBy(
-                    DemandSeriesValues::getCalendarWeek,
-                    Collectors.summingDouble(DemandSeriesValues::getDemand)
-                )
-            );
     }
 
-    private void logEvent(EventType eventType, String userID, boolean postLog, String descriptionOverride, UUID cgID) {
-        if (!postLog) return;
-
+    private LoggingHistoryEntity createLog(EventType eventType, String username, String description, UUID cgID) {
         LoggingHistoryEntity logEntity = new LoggingHistoryEntity();
         logEntity.setObjectType(EventObjectType.CAPACITY_GROUP);
         logEntity.setCapacityGroupId(cgID);
         logEntity.setEventType(eventType);
-        logEntity.setUserAccount(getUser(userID).map(UserEntity::getUsername).orElse("Unknown"));
+        logEntity.setUserAccount(Optional.ofNullable(username).orElse("Unknown"));
         logEntity.setTime_created(Timestamp.valueOf(LocalDateTime.now()));
         logEntity.setLogID(UUID.randomUUID());
-
-        logEntity.setDescription(
-            Optional.ofNullable(descriptionOverride).orElseGet(() -> getEventDescription(eventType))
-        );
-        if (logEntity.getDescription() != null) {
-            loggingRepository.save(logEntity);
-        }
+        logEntity.setDescription(description);
+        return logEntity;
     }
 
     private String getEventDescription(EventType eventType) {
@@ -394,194 +329,145 @@ public class BottleneckDetectorUtil implements BottleneckManager {
         boolean ruled,
         int percentage
     ) {
-        List<YearReportDto> yearReports = new ArrayList<>();
-        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
-            YearReportDto yearReport = new YearReportDto();
-            CapacityGroupEntity cgs = capacityGroupRepository.findById(UUID.fromString(capacityGroupID)).get();
-            List<LinkedCapacityGroupMaterialDemandEntity> matchedEntities =
-                matchedDemandsRepository.findByCapacityGroupID(cgs.getId());
-            yearReport.setYear(year);
-            yearReport.setCapacityGroupId(capacityGroupID);
-            yearReport.setTotalWeeksCurrentYear(getWeeksInYear(year));
-
-            String enabledPercentages;
-            Optional<CapacityGroupRuleSetEntity> cgRuleSet = cgRuleSetRepository.findByCgID(cgs.getId());
-            if (cgRuleSet.isPresent()) {
-                enabledPercentages = cgRuleSet.get().getRuled_percentage();
-                yearReport.setRuled(true);
-                yearReport.setEnabledPercentages(enabledPercentages);
-            } else {
-                Optional<CompanyRuleSetEntity> companyRuleSet = cdRuleSetRepository.findByCompanyID(
-                    cgs.getCustomer().getId()
-                );
-                if (companyRuleSet.isPresent()) {
-                    yearReport.setRuled(true);
-                    yearReport.setEnabledPercentages(companyRuleSet.get().getRuled_percentage());
-                } else {
-                    companyRuleSet = cdRuleSetRepository.findByCompanyID(cgs.getSupplier().getId());
-                    if (companyRuleSet.isPresent()) {
-                        yearReport.setRuled(true);
-                        yearReport.setEnabledPercentages(companyRuleSet.get().getRuled_percentage());
-                    } else {
-                        yearReport.setRuled(false);
-                        yearReport.setEnabledPercentages("{}");
-                    }
+        CapacityGroupEntity cgs = capacityGroupRepository
+            .findById(UUID.fromString(capacityGroupID))
+            .orElseThrow(() -> new NotFoundException("4", "04"));
+        Pair<Boolean, String> ruleSet = resolveRuleSet(cgs);
+
+        // A value belongs to the week of its Monday, so values up to six days around the range still count
+        List<CapacityGroupWeekDemandEntity> buckets = weekDemandRepository.findByCapacityGroupIDAndCalendarWeekBetween(
+            cgs.getId(),
+            startDate.minusDays(6),
+            endDate.plusDays(6)
+        );
+        Map<Integer, Map<UUID, Double>> demandsByWeek = indexByIsoWeek(buckets);
+        Map<UUID, DemandCategoryEntity> categories = demandCategoryRepository
+            .findAllById(buckets.stream().map(CapacityGroupWeekDemandEntity::getDemandCategoryID).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(DemandCategoryEntity::getId, category -> category));
+
+        double adjustedCapacity = ruled
+            ? cgs.getDefaultActualCapacity() * (1 + (percentage / 100.0))
+            : cgs.getDefaultActualCapacity();
+
+        ArrayList<YearReport> reports = new ArrayList<>();
+        YearReportDto yearReport = null;
+        // Every month of the range is reported, a month whose weeks all start outside the range with no weeks
+        for (
+            YearMonth month = YearMonth.from(startDate);
+            !month.isAfter(YearMonth.from(endDate));
+            month = month.plusMonths(1)
+        ) {
+            if (yearReport == null || yearReport.getYear() != month.getYear()) {
+                if (yearReport != null) {
+                    reports.add(convertToYearReport(yearReport));
                 }
+                yearReport = new YearReportDto();
+                yearReport.setYear(month.getYear());
+                yearReport.setCapacityGroupId(capacityGroupID);
+                yearReport.setTotalWeeksCurrentYear(getWeeksInYear(month.getYear()));
+                yearReport.setRuled(ruleSet.getKey());
+                yearReport.setEnabledPercentages(ruleSet.getValue());
+                yearReport.setMonthReportDto(new ArrayList<>());
             }
-
-            List<MonthReportDto> monthReports = new ArrayList<>();
-            for (int month = 1; month <= 12; month++) {
-                if (isMonthWithinRange(year, month, startDate, endDate)) {
-                    MonthReportDto monthReport = processMonth(
-                        matchedEntities,
-                        month,
-                        year,
-                        cgs.getDefaultActualCapacity(),
-                        cgs.getDefaultMaximumCapacity(),
-                        startDate,
-                        endDate,
-                        ruled,
-                        percentage
-                    );
-                    monthReports.add(monthReport);
+            MonthReportDto monthReport = new MonthReportDto();
+            monthReport.setMonth(month.getMonth().toString());
+            monthReport.setWeekReportDto(new ArrayList<>());
+            yearReport.getMonthReportDto().add(monthReport);
+
+            for (
+                LocalDate week = firstWeekStart(month);
+                !week.isAfter(month.atEndOfMonth());
+                week = week.plusWeeks(1)
+            ) {
+                if (weekFallsInRange(week, startDate, endDate)) {
+                    monthReport
+                        .getWeekReportDto()
+                        .add(
+                            calculateWeekDelta(
+                                demandsByWeek.getOrDefault(isoWeekKey(week), Map.of()),
+                                categories,
+                                week.get(WeekFields.ISO.weekOfWeekBasedYear()),
+                                cgs.getDefaultActualCapacity(),
+                                cgs.getDefaultMaximumCapacity(),
+                                adjustedCapacity
+                            )
+                        );
                 }
             }
-
-            yearReport.setMonthReportDto(monthReports);
-            yearReports.add(yearReport);
         }
-        ArrayList<YearReport> reports = new ArrayList<>();
-
-        for (YearReportDto yearReportDto : yearReports) {
-            reports.add(convertToYearReport(yearReportDto));
+        if (yearReport != null) {
+            reports.add(convertToYearReport(yearReport));
         }
+
         YearReportResponse response = new YearReportResponse();
         response.setReports(reports);
         return response;
     }
 
-    private boolean weekFallsInRange(LocalDate currentWeekStart, LocalDate startDate, LocalDate endDate) {
-        LocalDate currentWeekEnd = currentWeekStart.plusDays(6); // Assuming a week is 7 days
-        return !currentWeekStart.isAfter(endDate) && !currentWeekEnd.isBefore(startDate);
-    }
-
-    private boolean isMonthWithinRange(int year, int month, LocalDate startDate, LocalDate endDate) {
-        YearMonth yearMonth = YearMonth.of(year, month);
-        return !yearMonth.isBefore(YearMonth.from(startDate)) && !yearMonth.isAfter(YearMonth.from(endDate));
-    }
-
-    // Month report processing
-    private MonthReportDto processMonth(
-        List<LinkedCapacityGroupMaterialDemandEntity> matchedEntities,
-        int month,
-        int year,
-        float capacity,
-        float maxCapacity,
-        LocalDate startDate,
-        LocalDate endDate,
-        boolean ruled,
-        int percentage
-    ) {
-        YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate firstDayOfMonth = yearMonth.atDay(1);
-        LocalDate lastDayOfMonth = yearMonth.atEndOfMonth();
-
-        List<WeekReportDto> weekReports = new ArrayList<>();
-
-        LocalDate current = firstDayOfMonth.with(WeekFields.ISO.dayOfWeek(), 1);
-        if (current.getMonthValue() != month) {
-            current = current.plusWeeks(1);
+    private Pair<Boolean, String> resolveRuleSet(CapacityGroupEntity cgs) {
+        Optional<CapacityGroupRuleSetEntity> cgRuleSet = cgRuleSetRepository.findByCgID(cgs.getId());
+        if (cgRuleSet.isPresent()) {
+            return Pair.of(true, cgRuleSet.get().getRuled_percentage());
         }
-
-        while (!current.isAfter(lastDayOfMonth)) {
-            int weekOfYear = current.get(WeekFields.ISO.weekOfWeekBasedYear());
-
-            // Check if the current week is within the date range
-            if (weekFallsInRange(current, startDate, endDate)) {
-                List<DemandSeriesValues> weekDemandValues = getDemandsForWeek(matchedEntities, weekOfYear, year);
-                weekReports.add(
-                    calculateWeekDelta(weekDemandValues, weekOfYear, capacity, maxCapacity, ruled, percentage)
-                );
-            }
-
-            current = current.plusWeeks(1);
+        Optional<CompanyRuleSetEntity> companyRuleSet = cdRuleSetRepository.findByCompanyID(cgs.getCustomer().getId());
+        if (companyRuleSet.isEmpty()) {
+            companyRuleSet = cdRuleSetRepository.findByCompanyID(cgs.getSupplier().getId());
         }
+        return companyRuleSet
+            .map(ruleSet -> Pair.of(true, ruleSet.getRuled_percentage()))
+            .orElseGet(() -> Pair.of(false, "{}"));
+    }
 
-        MonthReportDto monthReport = new MonthReportDto();
-        monthReport.setMonth(yearMonth.getMonth().toString());
-        monthReport.setWeekReportDto(weekReports);
-
-        return monthReport;
+    private Map<Integer, Map<UUID, Double>> indexByIsoWeek(List<CapacityGroupWeekDemandEntity> buckets) {
+        Map<Integer, Map<UUID, Double>> demandsByWeek = new HashMap<>();
+        for (CapacityGroupWeekDemandEntity bucket : buckets) {
+            demandsByWeek
+                .computeIfAbsent(isoWeekKey(bucket.getCalendarWeek()), key -> new LinkedHashMap<>())
+                .merge(bucket.getDemandCategoryID(), bucket.getDemand(), Double::sum);
+        }
+        return demandsByWeek;
     }
 
-    private List<DemandSeriesValues> getDemandsForWeek(
-        List<LinkedCapacityGroupMaterialDemandEntity> matchedEntities,
-        int weekOfYear,
-        int year
-    ) {
-        List<DemandSeriesValues> weekDemandValues = new ArrayList<>();
+    private int isoWeekKey(LocalDate date) {
+        return date.get(WeekFields.ISO.weekBasedYear()) * 100 + date.get(WeekFields.ISO.weekOfWeekBasedYear());
+    }
 
-        for (LinkedCapacityGroupMaterialDemandEntity entity : matchedEntities) {
-            Optional<MaterialDemandEntity> materialDemandOpt = materialDemandRepository.findById(
-                entity.getMaterialDemandID()
-            );
-            materialDemandOpt.ifPresent(materialDemand -> {
-                for (DemandSeries demandSeries : materialDemand.getDemandSeries()) {
-                    // Filter the demand series values based on the weekOfYear and year
-                    List<DemandSeriesValues> filteredValues = demandSeries
-                        .getDemandSeriesValues()
-                        .stream()
-                        .filter(dsv -> {
-                            LocalDate demandDate = dsv.getCalendarWeek();
-                            return (
-                                demandDate.get(WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear()) ==
-                                    weekOfYear &&
-                                    demandDate.getYear() == year
-                            );
-                        })
-                        .toList();
-
-                    weekDemandValues.addAll(filteredValues);
-                }
-            });
-        }
+    // First Monday falling inside the given month
+    private LocalDate firstWeekStart(YearMonth yearMonth) {
+        LocalDate current = yearMonth.atDay(1).with(WeekFields.ISO.dayOfWeek(), 1);
+        return current.getMonthValue() != yearMonth.getMonthValue() ? current.plusWeeks(1) : current;
+    }
 
-        return weekDemandValues;
+    private boolean weekFallsInRange(LocalDate currentWeekStart, LocalDate startDate, LocalDate endDate) {
+        LocalDate currentWeekEnd = currentWeekStart.plusDays(6); // Assuming a week is 7 days
+        return !currentWeekStart.isAfter(endDate) && !currentWeekEnd.isBefore(startDate);
     }
 
     private WeekReportDto calculateWeekDelta(
-        List<DemandSeriesValues> weekDemandValues,
+        Map<UUID, Double> weekDemands,
+        Map<UUID, DemandCategoryEntity> categories,
         int weekNumber,
         float capacity,
         float maxCapacity,
-        Boolean ruled,
-        Integer percentage
+        double adjustedCapacity
     ) {
         WeekReportDto weekReport = new WeekReportDto();
         weekReport.setWeek(weekNumber);
         weekReport.setActCapacity(capacity);
         weekReport.setMaxCapacity(maxCapacity);
 
-        Map<String, List<DemandSeriesValues>> groupedByCategory = weekDemandValues
-            .stream()
-            .collect(Collectors.groupingBy(dsv -> dsv.getDemandSeries().getDemandCategory().getId().toString()));
-
         List<CategoryDeltaDto> categoryDeltaDtos = new ArrayList<>();
-        for (Map.Entry<String, List<DemandSeriesValues>> entry : groupedByCategory.entrySet()) {
-            double totalDemand = entry.getValue().stream().mapToDouble(DemandSeriesValues::getDemand).sum();
-
-            // Apply adjustment if ruled is true and percentage is not null
-            double adjustedCapacity = (ruled != null && ruled && percentage != null)
-                ? capacity * (1 + (percentage / 100.0))
-                : capacity;
-            double totalDelta = adjustedCapacity - totalDemand;
-
-            DemandCategoryEntity category = entry.getValue().get(0).getDemandSeries().getDemandCategory();
+        for (Map.Entry<UUID, Double> entry : weekDemands.entrySet()) {
+            DemandCategoryEntity category = categories.get(entry.getKey());
+            if (category == null) {
+                continue;
+            }
             CategoryDeltaDto categoryDeltaDto = new CategoryDeltaDto();
             categoryDeltaDto.setCatID(category.getId().toString());
             categoryDeltaDto.setCatName(category.getDemandCategoryName());
             categoryDeltaDto.setCatCode(category.getDemandCategoryCode());
-            categoryDeltaDto.setDelta(totalDelta);
+            categoryDeltaDto.setDelta(adjustedCapacity - entry.getValue());
 
             categoryDeltaDtos.add(categoryDeltaDto);
         }
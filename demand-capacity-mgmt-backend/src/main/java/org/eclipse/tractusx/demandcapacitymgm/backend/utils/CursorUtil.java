@@ -0,0 +1,68 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.utils;
+
+import org.eclipse.tractusx.demandcapacitymgm.backend.exceptions.type.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursors: the sort key values of the last row of a page, joined and Base64 encoded.
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(Object... values) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(values[i]);
+        }
+        return Base64
+            .getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the cursor values, or null for an absent cursor. A malformed cursor is a bad request.
+     */
+    public static String[] decode(String cursor, int expectedValues) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\|", -1);
+            if (values.length != expectedValues) {
+                throw new BadRequestException("1", "10");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("1", "10");
+        }
+    }
+}
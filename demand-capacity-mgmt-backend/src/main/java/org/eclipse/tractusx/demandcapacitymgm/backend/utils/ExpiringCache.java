@@ -0,0 +1,143 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Size bounded LRU map whose entries expire after a time to live, reporting hits, misses, evictions and size
+ * tagged with the cache name. Only present values are cached. Every removal bumps a generation, so a value
+ * loaded concurrently with a change is not stored.
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * @param ttl time to live of the entries, null keeps them until they are evicted or removed
+     */
+    public ExpiringCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.ttl = ttl;
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.size", this, cache -> cache.size()).tag("cache", name).register(meterRegistry);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        return get(key, loader, value -> ttl);
+    }
+
+    /**
+     * Like {@link #get(Object, Function)}, with the time to live taken from the loaded value. Values with no
+     * time left are returned without being cached.
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader, Function<V, Duration> timeToLive) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        long startGeneration;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAt() < entry.ttlNanos()) {
+                hits.increment();
+                return Optional.of(entry.value());
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+            startGeneration = generation;
+        }
+        misses.increment();
+
+        Optional<V> loaded = loader.apply(key);
+        if (loaded.isPresent()) {
+            Duration valueTtl = timeToLive.apply(loaded.get());
+            long ttlNanos = valueTtl == null ? Long.MAX_VALUE : valueTtl.toNanos();
+            if (ttlNanos > 0) {
+                synchronized (entries) {
+                    if (startGeneration == generation) {
+                        entries.put(key, new Entry<>(loaded.get(), System.nanoTime(), ttlNanos));
+                        evictOverflow();
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void remove(K key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    public void removeIf(Predicate<K> filter) {
+        synchronized (entries) {
+            generation++;
+            entries.keySet().removeIf(filter);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    private void evictOverflow() {
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt, long ttlNanos) {}
+}
@@ -0,0 +1,110 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.demandcapacitymgm.backend.models.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes flat export rows as NDJSON objects or CSV lines, one row at a time.
+ */
+public class ExportRowWriter {
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    public ExportRowWriter(ExportFormat format, List<String> columns, OutputStream out, ObjectMapper objectMapper)
+        throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.NDJSON) {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are separated by the newline written after each of them, the buffered writer decides when to flush
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator = null;
+            writeCsvLine(columns.toArray());
+        }
+    }
+
+    /**
+     * Values are written in the order of the columns. Null values stay empty in CSV and null in NDJSON.
+     */
+    public void writeRow(Object... values) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeObjectField(columns.get(i), values[i]);
+                }
+                generator.writeEndObject();
+                generator.flush();
+                writer.write('\n');
+            } else {
+                writeCsvLine(values);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
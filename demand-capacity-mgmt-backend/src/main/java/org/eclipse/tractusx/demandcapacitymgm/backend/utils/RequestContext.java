@@ -0,0 +1,138 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.CompanyEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.DemandCategoryEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UnitMeasureEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.UserEntity;
+import org.eclipse.tractusx.demandcapacitymgm.backend.entities.enums.Role;
+import org.eclipse.tractusx.demandcapacitymgm.backend.repositories.UserRepository;
+import org.eclipse.tractusx.demandcapacitymgm.backend.services.ReferenceDataCacheService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Identity and reference data of the current HTTP request. Everything is resolved at most once per
+ * request and kept in the request attributes; outside of a request (schedulers, async workers) the
+ * lookups go straight to the repositories. Reference data is loaded through the application wide
+ * {@link ReferenceDataCacheService}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestContext {
+
+    private static final String STATE_ATTRIBUTE = RequestContext.class.getName() + ".state";
+
+    private final UserRepository userRepository;
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    public String getUserID() {
+        HttpServletRequest request = currentRequest();
+        return request == null ? null : UserUtil.getUserID(request);
+    }
+
+    public Role getUserRole() {
+        HttpServletRequest request = currentRequest();
+        return request == null ? null : UserUtil.getUserRole(request);
+    }
+
+    public Optional<UserEntity> getUser() {
+        String userID = getUserID();
+        if (userID == null || !UUIDUtil.checkValidUUID(userID)) {
+            return Optional.empty();
+        }
+        return findUser(UUID.fromString(userID));
+    }
+
+    public Optional<UserEntity> findUser(UUID id) {
+        return lookup(State::users, id, userRepository::findById);
+    }
+
+    public Optional<CompanyEntity> findCompany(UUID id) {
+        return lookup(State::companies, id, referenceDataCacheService::findCompany);
+    }
+
+    public Optional<UnitMeasureEntity> findUnitMeasure(UUID id) {
+        return lookup(State::unitMeasures, id, referenceDataCacheService::findUnitMeasure);
+    }
+
+    public Optional<DemandCategoryEntity> findDemandCategory(UUID id) {
+        return lookup(State::demandCategories, id, referenceDataCacheService::findDemandCategory);
+    }
+
+    private <T> Optional<T> lookup(
+        Function<State, Map<UUID, Optional<T>>> cache,
+        UUID id,
+        Function<UUID, Optional<T>> loader
+    ) {
+        State state = currentState();
+        if (state == null || id == null) {
+            return loader.apply(id);
+        }
+        Map<UUID, Optional<T>> entries = cache.apply(state);
+        Optional<T> entry = entries.get(id);
+        if (entry == null) {
+            entry = loader.apply(id);
+            entries.put(id, entry);
+        }
+        return entry;
+    }
+
+    private State currentState() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object state = attributes.getAttribute(STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state instanceof State existing) {
+            return existing;
+        }
+        State created = new State(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+        attributes.setAttribute(STATE_ATTRIBUTE, created, RequestAttributes.SCOPE_REQUEST);
+        return created;
+    }
+
+    private HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+            ? attributes.getRequest()
+            : null;
+    }
+
+    private record State(
+        Map<UUID, Optional<UserEntity>> users,
+        Map<UUID, Optional<CompanyEntity>> companies,
+        Map<UUID, Optional<UnitMeasureEntity>> unitMeasures,
+        Map<UUID, Optional<DemandCategoryEntity>> demandCategories
+    ) {}
+}
@@ -32,15 +32,27 @@ import java.util.*;
 
 public class UserUtil {
 
+    private static final String DECODED_TOKEN_ATTRIBUTE = UserUtil.class.getName() + ".decodedJWT";
+
     public static String getUserID(HttpServletRequest request) {
         try {
-            DecodedJWT decodedJWT = JWT.decode(Objects.requireNonNull(getTokenFromHeader(request)));
+            DecodedJWT decodedJWT = decodeToken(request);
             return decodedJWT.getSubject();
         } catch (Exception e) {
             return "empty token? maybe user is not logged in yet";
         }
     }
 
+    // The token is decoded once and kept for the rest of the request
+    private static DecodedJWT decodeToken(HttpServletRequest request) {
+        if (request.getAttribute(DECODED_TOKEN_ATTRIBUTE) instanceof DecodedJWT decodedJWT) {
+            return decodedJWT;
+        }
+        DecodedJWT decodedJWT = JWT.decode(Objects.requireNonNull(getTokenFromHeader(request)));
+        request.setAttribute(DECODED_TOKEN_ATTRIBUTE, decodedJWT);
+        return decodedJWT;
+    }
+
     private static String getTokenFromHeader(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
@@ -51,7 +63,7 @@ public class UserUtil {
 
     public static Role getUserRole(HttpServletRequest request) {
         try {
-            DecodedJWT decodedJWT = JWT.decode(Objects.requireNonNull(getTokenFromHeader(request)));
+            DecodedJWT decodedJWT = decodeToken(request);
             Claim rolesClaim = decodedJWT.getClaim("realm_access");
 			Map<String, Object> realmAccessMap = Optional.ofNullable(rolesClaim)
                 .map(Claim::asMap)
@@ -0,0 +1,185 @@
+/*
+ *  *******************************************************************************
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ *    See the NOTICE file(s) distributed with this work for additional
+ *    information regarding copyright ownership.
+ *
+ *    This program and the accompanying materials are made available under the
+ *    terms of the Apache License, Version 2.0 which is available at
+ *    https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *    WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *    License for the specific language governing permissions and limitations
+ *    under the License.
+ *
+ *    SPDX-License-Identifier: Apache-2.0
+ *    ********************************************************************************
+ */
+
+package org.eclipse.tractusx.demandcapacitymgm.backend.utils;
+
+import com.google.gson.Gson;
+import eclipse.tractusx.demandcapacitymgm.specification.model.CapacitiesDto;
+import eclipse.tractusx.demandcapacitymgm.specification.model.DemandSeriesDto;
+import eclipse.tractusx.demandcapacitymgm.specification.model.DemandWeekSeriesDto;
+import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedCapacityGroupRequest;
+import eclipse.tractusx.demandcapacitymgm.specification.model.WeekBasedMaterialDemandRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reduces a week-based document to what changed between two of its versions. The delta keeps the header
+ * fields and only the weeks whose values differ; a week that was removed is listed without values.
+ */
+public class WeekBasedDeltaUtil {
+
+    private static final Gson GSON = new Gson();
+
+    private WeekBasedDeltaUtil() {}
+
+    /**
+     * @return the delta, or null when neither the header nor any demand week changed
+     */
+    public static WeekBasedMaterialDemandRequest materialDemandDelta(
+        WeekBasedMaterialDemandRequest before,
+        WeekBasedMaterialDemandRequest after
+    ) {
+        if (after == null) {
+            return null;
+        }
+        Map<String, DemandWeekSeriesDto> previousSeries = new LinkedHashMap<>();
+        if (before != null && before.getDemandSeries() != null) {
+            before.getDemandSeries().forEach(series -> previousSeries.put(seriesKey(series), series));
+        }
+
+        List<DemandWeekSeriesDto> changedSeries = new ArrayList<>();
+        if (after.getDemandSeries() != null) {
+            for (DemandWeekSeriesDto series : after.getDemandSeries()) {
+                DemandWeekSeriesDto previous = previousSeries.remove(seriesKey(series));
+                addChangedSeries(
+                    changedSeries,
+                    series,
+                    previous == null ? null : previous.getDemands(),
+                    series.getDemands()
+                );
+            }
+        }
+        previousSeries.values().forEach(series -> addChangedSeries(changedSeries, series, series.getDemands(), null));
+
+        WeekBasedMaterialDemandRequest delta = copy(after, WeekBasedMaterialDemandRequest.class);
+        delta.setDemandSeries(null);
+        if (changedSeries.isEmpty() && before != null && sameHeader(before, delta)) {
+            return null;
+        }
+        delta.setDemandSeries(changedSeries);
+        return delta;
+    }
+
+    /**
+     * @return the delta, or null when neither the header nor any capacity week changed
+     */
+    public static WeekBasedCapacityGroupRequest capacityGroupDelta(
+        WeekBasedCapacityGroupRequest before,
+        WeekBasedCapacityGroupRequest after
+    ) {
+        if (after == null) {
+            return null;
+        }
+        Map<String, CapacitiesDto> previousWeeks = new LinkedHashMap<>();
+        if (before != null && before.getCapacities() != null) {
+            before.getCapacities().forEach(week -> previousWeeks.put(week.getCalendarWeek(), week));
+        }
+
+        List<CapacitiesDto> changedWeeks = new ArrayList<>();
+        if (after.getCapacities() != null) {
+            for (CapacitiesDto week : after.getCapacities()) {
+                if (!week.equals(previousWeeks.remove(week.getCalendarWeek()))) {
+                    changedWeeks.add(week);
+                }
+            }
+        }
+        previousWeeks
+            .keySet()
+            .forEach(calendarWeek -> {
+                CapacitiesDto removed = new CapacitiesDto();
+                removed.setCalendarWeek(calendarWeek);
+                changedWeeks.add(removed);
+            });
+
+        WeekBasedCapacityGroupRequest delta = copy(after, WeekBasedCapacityGroupRequest.class);
+        delta.setCapacities(null);
+        if (changedWeeks.isEmpty() && before != null && sameHeader(before, delta)) {
+            return null;
+        }
+        delta.setCapacities(changedWeeks);
+        return delta;
+    }
+
+    private static void addChangedSeries(
+        List<DemandWeekSeriesDto> changedSeries,
+        DemandWeekSeriesDto series,
+        List<DemandSeriesDto> previousDemands,
+        List<DemandSeriesDto> demands
+    ) {
+        Map<String, String> previousWeeks = new LinkedHashMap<>();
+        if (previousDemands != null) {
+            previousDemands.forEach(week -> previousWeeks.put(week.getCalendarWeek(), week.getDemand()));
+        }
+
+        List<DemandSeriesDto> changedWeeks = new ArrayList<>();
+        if (demands != null) {
+            for (DemandSeriesDto week : demands) {
+                if (
+                    !previousWeeks.containsKey(week.getCalendarWeek()) ||
+                    !Objects.equals(previousWeeks.remove(week.getCalendarWeek()), week.getDemand())
+                ) {
+                    changedWeeks.add(week);
+                }
+            }
+        }
+        previousWeeks
+            .keySet()
+            .forEach(calendarWeek -> {
+                DemandSeriesDto removed = new DemandSeriesDto();
+                removed.setCalendarWeek(calendarWeek);
+                changedWeeks.add(removed);
+            });
+
+        if (!changedWeeks.isEmpty()) {
+            DemandWeekSeriesDto changed = copy(series, DemandWeekSeriesDto.class);
+            changed.setDemands(changedWeeks);
+            changedSeries.add(changed);
+        }
+    }
+
+    private static String seriesKey(DemandWeekSeriesDto series) {
+        String demandCategory = series.getDemandCategory() == null ? null : series.getDemandCategory().getId();
+        return series.getCustomerLocation() + "|" + series.getExpectedSupplierLocation() + "|" + demandCategory;
+    }
+
+    // changedAt is set on every write, it alone is no change
+    private static boolean sameHeader(WeekBasedMaterialDemandRequest before, WeekBasedMaterialDemandRequest delta) {
+        WeekBasedMaterialDemandRequest header = copy(before, WeekBasedMaterialDemandRequest.class);
+        header.setDemandSeries(null);
+        header.setChangedAt(delta.getChangedAt());
+        return header.equals(delta);
+    }
+
+    private static boolean sameHeader(WeekBasedCapacityGroupRequest before, WeekBasedCapacityGroupRequest delta) {
+        WeekBasedCapacityGroupRequest header = copy(before, WeekBasedCapacityGroupRequest.class);
+        header.setCapacities(null);
+        header.setChangedAt(delta.getChangedAt());
+        return header.equals(delta);
+    }
+
+    private static <T> T copy(T source, Class<T> type) {
+        return GSON.fromJson(GSON.toJson(source), type);
+    }
+}
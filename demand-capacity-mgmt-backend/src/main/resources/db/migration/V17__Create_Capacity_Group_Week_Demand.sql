@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+create table capacity_group_week_demand
+(
+    id uuid DEFAULT uuid_generate_v4() primary key,
+    capacity_group_id uuid not null,
+    demand_category_id uuid not null,
+    calendar_week date not null,
+    demand numeric not null,
+    constraint capacity_group_week_demand_uk unique (capacity_group_id, demand_category_id, calendar_week)
+);
+
+insert into capacity_group_week_demand (capacity_group_id, demand_category_id, calendar_week, demand)
+select l.capacity_group_id, ds.demand_category_code_id, cast(v.calendar_week as date), sum(v.demand)
+from link_capacitygroup_demandseries l
+join demand_series ds on ds.material_demand_id = l.material_demand_id
+join demand_series_values v on v.demand_series_id = ds.id
+where ds.demand_category_code_id is not null and v.demand is not null
+group by l.capacity_group_id, ds.demand_category_code_id, cast(v.calendar_week as date);
@@ -0,0 +1,30 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+create index if not exists logging_history_time_created_idx on logging_history (time_created desc, id desc);
+
+create index if not exists logging_history_capacity_gp_id_idx on logging_history (capacity_gp_id, time_created desc, id desc);
+
+create index if not exists logging_history_material_demand_id_idx on logging_history (material_demand_id, time_created desc, id desc);
+
+create index if not exists logging_history_event_type_idx on logging_history (event_type);
+
+create index if not exists logging_history_description_fts_idx
+    on logging_history using gin (to_tsvector('simple', coalesce(description, '')));
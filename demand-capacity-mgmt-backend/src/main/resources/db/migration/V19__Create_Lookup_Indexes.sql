@@ -0,0 +1,44 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- Foreign key and lookup columns used by the repositories. statuses.user_id is already covered by unique_user_id.
+
+create index if not exists material_demand_changed_at_idx on material_demand (changed_at desc, id desc);
+create index if not exists material_demand_customer_id_idx on material_demand (customer_id);
+create index if not exists material_demand_supplier_id_idx on material_demand (supplier_id);
+
+create index if not exists demand_series_material_demand_id_idx on demand_series (material_demand_id);
+create index if not exists demand_series_values_demand_series_id_idx on demand_series_values (demand_series_id, calendar_week);
+
+create index if not exists capacity_group_customer_idx on capacity_group (customer);
+create index if not exists capacity_group_supplier_idx on capacity_group (supplier);
+create index if not exists capacity_time_series_capacity_group_id_idx on capacity_time_series (capacity_group_id);
+
+create index if not exists link_capacitygroup_demandseries_capacity_group_id_idx
+    on link_capacitygroup_demandseries (capacity_group_id);
+create index if not exists link_capacitygroup_demandseries_material_demand_id_idx
+    on link_capacitygroup_demandseries (material_demand_id);
+
+create index if not exists favorites_user_id_idx on favorites (user_id, f_type);
+
+create index if not exists alerts_user_id_idx on alerts (user_id);
+create index if not exists triggered_alerts_user_id_idx on triggered_alerts (user_id);
+create index if not exists dedicated_alerts_alert_id_idx on dedicated_alerts (alert_id);
+create index if not exists dedicated_alerts_object_id_idx on dedicated_alerts (object_id);
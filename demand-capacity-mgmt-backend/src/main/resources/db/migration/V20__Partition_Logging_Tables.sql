@@ -0,0 +1,144 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- Creates one range partition per month between from_month and to_month (inclusive), named <parent>_YYYY_MM.
+create or replace function create_monthly_partitions(parent text, from_month date, to_month date) returns void
+    language plpgsql as
+$$
+declare
+    month date := date_trunc('month', from_month)::date;
+begin
+    while month <= to_month loop
+        execute format(
+            'create table if not exists %I partition of %I for values from (%L) to (%L)',
+            parent || '_' || to_char(month, 'YYYY_MM'),
+            parent,
+            month,
+            (month + interval '1 month')::date
+        );
+        month := (month + interval '1 month')::date;
+    end loop;
+end;
+$$;
+
+-- Drops the monthly partitions of parent that end on or before the given month.
+create or replace function drop_monthly_partitions_before(parent text, before_month date) returns integer
+    language plpgsql as
+$$
+declare
+    partition record;
+    dropped integer := 0;
+begin
+    for partition in
+        select child.relname
+        from pg_inherits
+        join pg_class child on child.oid = pg_inherits.inhrelid
+        join pg_class parent_table on parent_table.oid = pg_inherits.inhparent
+        where parent_table.relname = parent
+          and child.relname ~ ('^' || parent || '_\d{4}_\d{2}$')
+          and to_date(right(child.relname, 7), 'YYYY_MM') < date_trunc('month', before_month)::date
+    loop
+        execute format('drop table %I', partition.relname);
+        dropped := dropped + 1;
+    end loop;
+    return dropped;
+end;
+$$;
+
+-- logging_history
+
+alter table logging_history rename to logging_history_unpartitioned;
+alter sequence logging_history_id_seq owned by none;
+
+create table logging_history
+(
+    id integer not null default nextval('logging_history_id_seq'),
+    log_id uuid,
+    capacity_gp_id uuid,
+    description varchar(150),
+    event_type smallint,
+    material_demand_id uuid,
+    object_type smallint,
+    time_created timestamp not null default now(),
+    user_account varchar(255),
+    primary key (id, time_created)
+) partition by range (time_created);
+
+create table logging_history_default partition of logging_history default;
+
+select create_monthly_partitions(
+    'logging_history',
+    coalesce((select min(time_created) from logging_history_unpartitioned)::date, current_date),
+    (current_date + interval '3 months')::date
+);
+
+insert into logging_history (id, log_id, capacity_gp_id, description, event_type, material_demand_id, object_type,
+                             time_created, user_account)
+select id, log_id, capacity_gp_id, description, event_type, material_demand_id, object_type,
+       coalesce(time_created, timestamp '1970-01-01'), user_account
+from logging_history_unpartitioned;
+
+drop table logging_history_unpartitioned;
+alter sequence logging_history_id_seq owned by logging_history.id;
+
+create index logging_history_time_created_idx on logging_history (time_created desc, id desc);
+create index logging_history_capacity_gp_id_idx on logging_history (capacity_gp_id, time_created desc, id desc);
+create index logging_history_material_demand_id_idx on logging_history (material_demand_id, time_created desc, id desc);
+create index logging_history_event_type_idx on logging_history (event_type);
+create index logging_history_description_fts_idx
+    on logging_history using gin (to_tsvector('simple', coalesce(description, '')));
+
+-- archived_log
+
+alter table archived_log rename to archived_log_unpartitioned;
+alter sequence archived_log_id_seq owned by none;
+
+create table archived_log
+(
+    id integer not null default nextval('archived_log_id_seq'),
+    log_id uuid,
+    capacity_gp_id uuid,
+    description varchar(150),
+    event_type smallint,
+    material_demand_id uuid,
+    object_type smallint,
+    time_created timestamp not null default now(),
+    user_account varchar(255),
+    primary key (id, time_created)
+) partition by range (time_created);
+
+create table archived_log_default partition of archived_log default;
+
+select create_monthly_partitions(
+    'archived_log',
+    coalesce((select min(time_created) from archived_log_unpartitioned)::date, current_date),
+    (current_date + interval '3 months')::date
+);
+
+insert into archived_log (id, log_id, capacity_gp_id, description, event_type, material_demand_id, object_type,
+                          time_created, user_account)
+select id, log_id, capacity_gp_id, description, event_type, material_demand_id, object_type,
+       coalesce(time_created, timestamp '1970-01-01'), user_account
+from archived_log_unpartitioned;
+
+drop table archived_log_unpartitioned;
+alter sequence archived_log_id_seq owned by archived_log.id;
+
+create index archived_log_time_created_idx on archived_log (time_created desc, id desc);
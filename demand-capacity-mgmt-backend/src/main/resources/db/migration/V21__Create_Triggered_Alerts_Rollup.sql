@@ -0,0 +1,38 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- User scoped keyset pages on (created desc, id desc). created holds Timestamp.toString() values.
+drop index if exists alerts_user_id_idx;
+drop index if exists triggered_alerts_user_id_idx;
+create index if not exists alerts_user_id_created_idx on alerts (user_id, created desc, id desc);
+create index if not exists triggered_alerts_user_id_created_idx on triggered_alerts (user_id, created desc, id desc);
+create index if not exists triggered_alerts_created_idx on triggered_alerts (created);
+
+-- Daily counts of triggered alerts that passed the retention period
+create table triggered_alerts_daily
+(
+    user_id uuid not null,
+    alert_name varchar(400) not null,
+    type varchar(400) not null,
+    monitored_objects varchar(400) not null,
+    day date not null,
+    triggered_count bigint not null,
+    constraint triggered_alerts_daily_pk primary key (user_id, alert_name, type, monitored_objects, day)
+);
@@ -0,0 +1,27 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- Received week-based capacity groups are processed oldest first, the age of the oldest unprocessed row is the lag
+alter table week_based_capacity add column if not exists received_at timestamp not null default now();
+create index if not exists week_based_capacity_unviewed_idx on week_based_capacity (received_at) where viewed = false;
+
+-- Set-based matching of linked demand series by material number, customer location and demand category
+create index if not exists material_demand_material_number_customer_idx on material_demand (material_number_customer);
+create index if not exists company_base_data_bpn_idx on company_base_data (bpn);
@@ -0,0 +1,34 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- One row per write of a week-based material demand, version orders the changes
+create table week_based_material_demand_change
+(
+    version bigserial constraint week_based_material_demand_change_pk primary key,
+    week_based_material_demand_id uuid not null,
+    operation varchar(10) not null,
+    before jsonb,
+    after jsonb,
+    changed_by uuid,
+    changed_at timestamp not null default now()
+);
+
+create index if not exists week_based_material_demand_change_demand_id_idx
+    on week_based_material_demand_change (week_based_material_demand_id, version);
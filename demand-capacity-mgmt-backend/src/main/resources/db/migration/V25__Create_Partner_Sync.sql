@@ -0,0 +1,57 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- Partner a change is published to, the supplier of a material demand and the customer of a capacity group
+alter table week_based_material_demand_change add column if not exists partner_bpn varchar(400);
+
+update week_based_material_demand_change set partner_bpn = after ->> 'supplier' where partner_bpn is null;
+
+create index if not exists week_based_material_demand_change_partner_idx
+    on week_based_material_demand_change (partner_bpn, version);
+
+create table week_based_capacity_group_change
+(
+    version bigserial constraint week_based_capacity_group_change_pk primary key,
+    week_based_capacity_group_id uuid not null,
+    operation varchar(10) not null,
+    before jsonb,
+    after jsonb,
+    partner_bpn varchar(400),
+    changed_by uuid,
+    changed_at timestamp not null default now()
+);
+
+create index if not exists week_based_capacity_group_change_partner_idx
+    on week_based_capacity_group_change (partner_bpn, version);
+
+-- Last version of a feed each partner acknowledged, the publisher resumes after it
+create table partner_sync_progress
+(
+    id uuid constraint partner_sync_progress_pk primary key,
+    partner_bpn varchar(400) not null,
+    feed varchar(40) not null,
+    acknowledged_version bigint not null default 0,
+    acknowledged_at timestamp,
+    constraint partner_sync_progress_partner_feed_uq unique (partner_bpn, feed)
+);
+
+insert into partner_sync_progress (id, partner_bpn, feed)
+select uuid_generate_v4(), partner_bpn, 'WEEK_BASED_MATERIAL_DEMAND'
+from (select distinct partner_bpn from week_based_material_demand_change where partner_bpn is not null) partners;
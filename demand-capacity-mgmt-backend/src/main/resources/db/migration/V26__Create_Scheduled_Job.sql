@@ -0,0 +1,32 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- One row per scheduled job, shared by all nodes. last_started_at keeps a job to one run per period
+-- across the cluster, the other columns describe the last finished run.
+create table scheduled_job
+(
+    job_name varchar(100) constraint scheduled_job_pk primary key,
+    last_started_at timestamp,
+    last_finished_at timestamp,
+    last_result varchar(10),
+    last_duration_ms bigint,
+    last_items integer,
+    last_node varchar(255)
+);
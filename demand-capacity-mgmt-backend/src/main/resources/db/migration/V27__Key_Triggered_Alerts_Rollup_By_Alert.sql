@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+SET search_path TO public;
+
+-- Triggered alerts remember the alert that fired them, the daily rollup is kept per alert
+alter table triggered_alerts add column if not exists alert_id uuid;
+
+-- Rows triggered before the column are linked where exactly one alert of the user matches them
+update triggered_alerts t
+set alert_id = a.id
+from alerts a
+where t.alert_id is null
+    and a.user_id = t.user_id
+    and a.alert_name = t.alert_name
+    and a.type = t.type
+    and a.monitored_objects = t.monitored_objects
+    and (
+        select count(*) from alerts b
+        where b.user_id = a.user_id
+            and b.alert_name = a.alert_name
+            and b.type = a.type
+            and b.monitored_objects = a.monitored_objects
+    ) = 1;
+
+-- The descriptive columns are nullable in triggered_alerts, a null in any of them must not fail the rollup
+alter table triggered_alerts_daily drop constraint triggered_alerts_daily_pk;
+alter table triggered_alerts_daily
+    alter column user_id drop not null,
+    alter column alert_name drop not null,
+    alter column type drop not null,
+    alter column monitored_objects drop not null,
+    add column alert_id uuid;
+
+-- Rows without an alert id fall back to the descriptive columns, which are fixed for a given alert
+create unique index triggered_alerts_daily_alert_day_uq on triggered_alerts_daily (
+    coalesce(alert_id, '00000000-0000-0000-0000-000000000000'::uuid),
+    coalesce(user_id, '00000000-0000-0000-0000-000000000000'::uuid),
+    coalesce(alert_name, ''),
+    coalesce(type, ''),
+    coalesce(monitored_objects, ''),
+    day
+);
@@ -95,16 +95,23 @@ const EventsContextProvider: React.FC<React.PropsWithChildren<{}>> = (props) =>
     try {
       const { start_time, end_time, event, material_demand_id, capacity_group_id } = filters;
       const api = createAPIInstance(access_token);
-      const response = await api.get('/loggingHistory/filterLogs', {
-        params: {
-          start_time: start_time || '',
-          end_time: end_time || '',
-          event: event || '',
-          material_demand_id: material_demand_id || '',
-          capacity_group_id: capacity_group_id || '',
-        },
-      });
-      const result: EventProp[] = response.data;
+      const result: EventProp[] = [];
+      let cursor: string | undefined;
+      do {
+        const response = await api.get('/loggingHistory/filterLogs', {
+          params: {
+            start_time: start_time || '',
+            end_time: end_time || '',
+            event: event || '',
+            material_demand_id: material_demand_id || '',
+            capacity_group_id: capacity_group_id || '',
+            cursor: cursor,
+            size: 500,
+          },
+        });
+        result.push(...(response.data.logs || []));
+        cursor = response.data.nextCursor;
+      } while (cursor);
       return result;
     } catch (error) {
       customErrorToast(objectType, errorCode, '75')
@@ -0,0 +1,71 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- Prints the plans of the hot repository queries on the seeded dataset (see docs/Query Plan Report.md).
+-- psql -v ON_ERROR_STOP=1 -f explain.sql > plans-<before|after>.txt
+
+SET search_path TO public;
+
+select id as material_demand_id from material_demand where material_description_customer = 'Seed material 4711' \gset
+select id as capacity_group_id from capacity_group where capacity_group_name = 'Seed group 42' \gset
+select ds.id as demand_series_id from demand_series ds where ds.material_demand_id = :'material_demand_id' limit 1 \gset
+
+\echo '== demand_series by material demand (DemandSeriesRepository.findAllByMaterialDemandIds)'
+explain (analyze, buffers, costs off, timing off)
+select * from demand_series where material_demand_id = :'material_demand_id';
+
+\echo '== demand_series_values by series (DemandSeriesValuesRepository.findAllByDemandSeriesIds)'
+explain (analyze, buffers, costs off, timing off)
+select * from demand_series_values where demand_series_id = :'demand_series_id' order by calendar_week;
+
+\echo '== links by capacity group (LinkedCapacityGroupMaterialDemandRepository.findByCapacityGroupID)'
+explain (analyze, buffers, costs off, timing off)
+select * from link_capacitygroup_demandseries where capacity_group_id = :'capacity_group_id';
+
+\echo '== links by material demand (LinkedCapacityGroupMaterialDemandRepository.findAllByMaterialDemandID)'
+explain (analyze, buffers, costs off, timing off)
+select * from link_capacitygroup_demandseries where material_demand_id = :'material_demand_id';
+
+\echo '== material demand page (DemandService.getDemandsPage)'
+explain (analyze, buffers, costs off, timing off)
+select * from material_demand order by changed_at desc, id desc limit 101;
+
+\echo '== logs of a capacity group, newest first (LoggingHistoryRepository.findFiltered)'
+explain (analyze, buffers, costs off, timing off)
+select * from logging_history where capacity_gp_id = :'capacity_group_id'
+order by time_created desc, id desc limit 101;
+
+\echo '== logs of the last 7 days (LoggingHistoryRepository.findFiltered)'
+explain (analyze, buffers, costs off, timing off)
+select * from logging_history where time_created > now() - interval '7 days' and time_created < now()
+order by time_created desc, id desc limit 101;
+
+\echo '== logs by description text (LoggingHistoryRepository.findFiltered)'
+explain (analyze, buffers, costs off, timing off)
+select * from logging_history
+where to_tsvector('simple', coalesce(description, '')) @@ plainto_tsquery('simple', 'degraded')
+order by time_created desc, id desc limit 101;
+
+\echo '== favorites of a user (FavoriteRepository.findByUserIDAndType)'
+explain (analyze, buffers, costs off, timing off)
+select * from favorites where user_id = '00000000-0000-0000-0000-000000000042' and f_type = 'CAPACITY_GROUP';
+
+\echo '== alerts of a user (AlertsRepository.findAllByUserID)'
+explain (analyze, buffers, costs off, timing off)
+select * from alerts where user_id = '00000000-0000-0000-0000-000000000042';
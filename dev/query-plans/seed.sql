@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- Seeds a synthetic dataset for the query plan report (see docs/Query Plan Report.md).
+-- Run against a database migrated up to V17:  psql -v ON_ERROR_STOP=1 -f seed.sql
+-- Sizes can be overridden with -v, e.g. -v demands=50000
+
+\if :{?demands} \else \set demands 10000 \endif
+\if :{?weeks} \else \set weeks 52 \endif
+\if :{?capacity_groups} \else \set capacity_groups 500 \endif
+\if :{?logs} \else \set logs 1000000 \endif
+\if :{?users} \else \set users 1000 \endif
+
+SET search_path TO public;
+SELECT setseed(0.42);
+
+insert into company_base_data (id, bpn, company_name, my_company, counter)
+select uuid_generate_v4(), 'BPNLSEED' || lpad(i::text, 8, '0'), 'Seed company ' || i, 'false', 0
+from generate_series(1, 50) i;
+
+insert into unit_of_measure (id, dimension, un_code, description, un_symbol, c_x_symbol)
+values ('00000000-0000-0000-0000-00000000a001', 'Mass', 'SEED', 'Seed unit', 'su', 'su');
+
+insert into demand_category (id, demand_category_code, demand_category_name)
+values ('00000000-0000-0000-0000-00000000b001', 'SEED', 'Seed category');
+
+create temporary table seed_company as
+select id, row_number() over (order by id) as n from company_base_data where bpn like 'BPNLSEED%';
+
+insert into capacity_group (id, capacity_group_name, start_date, end_date, customer, supplier, link_status)
+select uuid_generate_v4(), 'Seed group ' || i, current_date, current_date + :weeks * 7,
+       (select id from seed_company where n = 1 + i % 50), (select id from seed_company where n = 1 + (i + 1) % 50), '0'
+from generate_series(1, :capacity_groups) i;
+
+create temporary table seed_capacity_group as
+select id, row_number() over (order by id) as n from capacity_group where capacity_group_name like 'Seed group %';
+
+insert into material_demand (id, material_description_customer, material_number_customer, material_number_supplier,
+                             changed_at, customer_id, supplier_id, unit_of_measure_id, link_status)
+select uuid_generate_v4(), 'Seed material ' || i, 'MNC-' || i, 'MNS-' || i,
+       now() - (random() * interval '365 days'),
+       (select id from seed_company where n = 1 + i % 50), (select id from seed_company where n = 1 + (i + 1) % 50),
+       '00000000-0000-0000-0000-00000000a001', (i % 2)::text
+from generate_series(1, :demands) i;
+
+insert into demand_series (id, material_demand_id, customer_location_id, demand_category_code_id)
+select uuid_generate_v4(), md.id, md.customer_id, '00000000-0000-0000-0000-00000000b001'
+from material_demand md, generate_series(1, 2)
+where md.material_description_customer like 'Seed material %';
+
+insert into demand_series_values (demand_series_id, calendar_week, demand)
+select ds.id, date_trunc('week', now()) + w * interval '7 days', round((random() * 1000)::numeric, 2)
+from demand_series ds
+join material_demand md on md.id = ds.material_demand_id and md.material_description_customer like 'Seed material %',
+     generate_series(0, :weeks - 1) w;
+
+insert into link_capacitygroup_demandseries (id, capacity_group_id, material_demand_id, demand_category_code_id,
+                                             customer_id, material_number_customer, material_number_supplier)
+select uuid_generate_v4(), cg.id, md.id, '00000000-0000-0000-0000-00000000b001', md.customer_id,
+       md.material_number_customer, md.material_number_supplier
+from (select md.*, row_number() over (order by md.id) as n
+      from material_demand md where md.material_description_customer like 'Seed material %') md
+join seed_capacity_group cg on cg.n = 1 + md.n % :capacity_groups;
+
+insert into logging_history (log_id, capacity_gp_id, description, event_type, material_demand_id, object_type,
+                             time_created, user_account)
+select uuid_generate_v4(),
+       case when i % 2 = 0 then (select id from seed_capacity_group where n = 1 + i % :capacity_groups) end,
+       (array ['Capacity Group Created', 'Demand Updated', 'Status improved', 'Status degraded'])[1 + i % 4]
+           || ' - ID: ' || i,
+       (i % 6)::smallint,
+       null,
+       (i % 3)::smallint,
+       now() - (random() * interval '730 days'),
+       'seed-user-' || (i % :users)
+from generate_series(1, :logs) i;
+
+insert into favorites (user_id, favorite_id, favorited_at, f_type)
+select ('00000000-0000-0000-0000-' || lpad((i % :users)::text, 12, '0'))::uuid, uuid_generate_v4(), now(),
+       (array ['CAPACITY_GROUP', 'MATERIAL_DEMAND', 'COMPANY_BASE_DATA', 'EVENT'])[1 + i % 4]
+from generate_series(1, :users * 50) i;
+
+insert into alerts (user_id, alert_name, created, description, monitored_objects, type, threshold, triggered_times)
+select ('00000000-0000-0000-0000-' || lpad((i % :users)::text, 12, '0'))::uuid, 'Seed alert ' || i, now()::text,
+       'Seed alert', 'ALL_DEMANDS', 'RELATIVE', 10, 0
+from generate_series(1, :users * 5) i;
+
+analyze;